@@ -0,0 +1,78 @@
+package io.github.chrimle.exceptionfactory.benchmarks;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+
+import io.github.chrimle.exceptionfactory.ExceptionBuilder;
+import io.github.chrimle.exceptionfactory.ExceptionSpec;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link ExceptionBuilder}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionBuilderBenchmark {
+
+  private static final ExceptionSpec<IllegalArgumentException> LIMIT_EXCEEDED =
+      ExceptionSpec.of(IllegalArgumentException.class, "limit", MUST_BE_AT_MOST);
+
+  private final Throwable cause = new IllegalStateException("cause");
+  private String key = "limit";
+  private String value = "100";
+
+  @Benchmark
+  public IllegalArgumentException buildWithoutCause() {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage(MUST_BE_AT_MOST, key, value)
+        .build();
+  }
+
+  @Benchmark
+  public IllegalArgumentException buildWithCause() {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage(MUST_BE_AT_MOST, key, value)
+        .setCause(cause)
+        .build();
+  }
+
+  @Benchmark
+  public IllegalArgumentException buildStacklessWithoutCause() {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage(MUST_BE_AT_MOST, key, value)
+        .setStackless(true)
+        .build();
+  }
+
+  @Benchmark
+  public IllegalArgumentException buildReusableStacklessWithoutCause() {
+    return ExceptionBuilder.reusable(IllegalArgumentException.class)
+        .setMessage(MUST_BE_AT_MOST, key, value)
+        .setStackless(true)
+        .build();
+  }
+
+  @Benchmark
+  public IllegalArgumentException createFromSpecWithoutCause() {
+    return LIMIT_EXCEEDED.create(value);
+  }
+
+  @Benchmark
+  public IllegalArgumentException buildWithoutMessage() {
+    return ExceptionBuilder.of(IllegalArgumentException.class).build();
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.chrimle.exceptionfactory.benchmarks;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+
+import io.github.chrimle.exceptionfactory.ExceptionFactory;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link ExceptionFactory}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionFactoryBenchmark {
+
+  private String key = "limit";
+  private String value = "100";
+  private Optional<String> present = Optional.of("user");
+
+  @Benchmark
+  public IllegalArgumentException illegalArgumentOfOneArg() {
+    return ExceptionFactory.illegalArgumentOf(key, MUST_NOT_BE_NULL);
+  }
+
+  @Benchmark
+  public IllegalArgumentException illegalArgumentOfTwoArgs() {
+    return ExceptionFactory.illegalArgumentOf(key, MUST_BE_AT_MOST, value);
+  }
+
+  @Benchmark
+  public IllegalStateException illegalStateOfOneArg() {
+    return ExceptionFactory.illegalStateOf(key, MUST_NOT_BE_NULL);
+  }
+
+  @Benchmark
+  public IllegalStateException illegalStateOfTwoArgs() {
+    return ExceptionFactory.illegalStateOf(key, MUST_BE_AT_MOST, value);
+  }
+
+  @Benchmark
+  public String orElseThrowWithLambda() {
+    return present.orElseThrow(() -> ExceptionFactory.illegalStateOf(key, MUST_NOT_BE_NULL));
+  }
+
+  @Benchmark
+  public String orElseThrowWithSupplierOf() {
+    return present.orElseThrow(ExceptionFactory.illegalStateSupplierOf(key, MUST_NOT_BE_NULL));
+  }
+}
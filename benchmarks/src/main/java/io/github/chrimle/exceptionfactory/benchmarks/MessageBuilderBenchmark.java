@@ -0,0 +1,55 @@
+package io.github.chrimle.exceptionfactory.benchmarks;
+
+import static io.github.chrimle.exceptionfactory.MessageBuilder.newMessageBuilder;
+import static io.github.chrimle.exceptionfactory.RequirementLevel.MUST;
+
+import io.github.chrimle.exceptionfactory.MessageBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link MessageBuilder}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageBuilderBenchmark {
+
+  private String key = "limit";
+  private int value = 100;
+
+  @Benchmark
+  public String buildMessage() {
+    return newMessageBuilder()
+        .addCodeQuote(key)
+        .add(MUST)
+        .add("be")
+        .add("at most")
+        .addCodeQuote(value)
+        .toString();
+  }
+
+  @Benchmark
+  public String buildPresizedMessage() {
+    return newMessageBuilder(32)
+        .addCodeQuote(key)
+        .add(MUST)
+        .add("be")
+        .add("at most")
+        .addCodeQuote(value)
+        .toString();
+  }
+}
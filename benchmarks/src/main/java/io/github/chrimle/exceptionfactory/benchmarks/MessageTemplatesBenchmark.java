@@ -0,0 +1,64 @@
+package io.github.chrimle.exceptionfactory.benchmarks;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+
+import io.github.chrimle.exceptionfactory.MessageTemplates;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link MessageTemplates}.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageTemplatesBenchmark {
+
+  private String key = "limit";
+  private String value = "100";
+  private long longValue = 100L;
+
+  @Benchmark
+  public String oneArgTemplateFormat() {
+    return MUST_NOT_BE_NULL.format(key);
+  }
+
+  @Benchmark
+  public String twoArgTemplateFormat() {
+    return MUST_BE_AT_MOST.format(key, value);
+  }
+
+  @Benchmark
+  public String twoArgTemplateFormatLong() {
+    return MUST_BE_AT_MOST.format(key, longValue);
+  }
+
+  @Benchmark
+  public String twoArgTemplateFormatStringValueOfLong() {
+    return MUST_BE_AT_MOST.format(key, String.valueOf(longValue));
+  }
+
+  @Benchmark
+  public String nArgTemplateFormat() {
+    return MessageTemplates.MUST_BE_BETWEEN.format(key, value, value);
+  }
+
+  @Benchmark
+  public String stringFormatted() {
+    return MessageTemplates.MUST_BE_BETWEEN.getTemplate().formatted(key, value, value);
+  }
+}
@@ -0,0 +1,58 @@
+package io.github.chrimle.exceptionfactory.benchmarks;
+
+import io.github.chrimle.exceptionfactory.Preconditions;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of passing {@link Preconditions}, compared to equivalent hand-written checks.
+ *
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreconditionsBenchmark {
+
+  private String key = "limit";
+  private Object object = new Object();
+  private int number = 42;
+  private int max = 100;
+
+  @Benchmark
+  public Object handWrittenRequireNonNull() {
+    if (object == null) {
+      throw new IllegalArgumentException("`" + key + "` MUST NOT be null");
+    }
+    return object;
+  }
+
+  @Benchmark
+  public Object requireNonNull() {
+    return Preconditions.requireNonNull(object, key);
+  }
+
+  @Benchmark
+  public int handWrittenRequireAtMost() {
+    if (number > max) {
+      throw new IllegalArgumentException("`" + key + "` MUST be at most `" + max + "`");
+    }
+    return number;
+  }
+
+  @Benchmark
+  public int requireAtMost() {
+    return Preconditions.requireAtMost(number, max, key);
+  }
+}
@@ -0,0 +1,334 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Asynchronous</em> {@link ExceptionSink}, which enqueues exceptions into a bounded
+ * <em>lock-free</em> ring buffer, drained in <em>batches</em> by a single background thread.
+ *
+ * <p>Producers never block. If the ring buffer is full, an exception is dropped according to the
+ * {@link DropPolicy}, and counted in {@link #getDroppedCount()}. The drainer passes up to {@code
+ * maxBatchSize} exceptions per invocation of the {@code batchConsumer}, amortizing its cost across
+ * many exceptions.
+ *
+ * <p>The ring buffer is a bounded queue with a <em>sequence number</em> per slot, in which
+ * producers and consumers each claim slots by a single <em>compare-and-set</em>.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * final var sink = AsyncExceptionSink.start(4096, 256, DROP_NEWEST, errorTracker::report);
+ * ExceptionFactory.setExceptionSink(sink);
+ * }</pre>
+ *
+ * @see ExceptionFactory#setExceptionSink(ExceptionSink)
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class AsyncExceptionSink implements ExceptionSink, AutoCloseable {
+
+  /** Maximum capacity of the ring buffer. Capacities are at least {@code 2}. */
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  /** Duration the drainer parks for, when the ring buffer is empty. */
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /** Policy of which exception to drop, when the ring buffer is full. */
+  public enum DropPolicy {
+    /** Drops the exception being enqueued. */
+    DROP_NEWEST,
+    /** Drops the oldest enqueued exception, to make room for the exception being enqueued. */
+    DROP_OLDEST
+  }
+
+  private final int mask;
+  private final AtomicReferenceArray<@Nullable Exception> slots;
+
+  /** Sequence number per slot, denoting whether it is free to produce into or consume from. */
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  /** Number of producers in {@link #accept(Exception)}, which may still enqueue an exception. */
+  private final AtomicInteger activeProducers = new AtomicInteger();
+
+  private final LongAdder droppedCount = new LongAdder();
+  private final int maxBatchSize;
+  private final DropPolicy dropPolicy;
+  private final Consumer<? super List<Exception>> batchConsumer;
+  private final Thread drainer;
+  private volatile boolean closed;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param capacity of the ring buffer, a power of two.
+   * @param maxBatchSize of each batch.
+   * @param dropPolicy when the ring buffer is full.
+   * @param batchConsumer of drained batches.
+   * @param threadFactory of the drainer thread.
+   */
+  private AsyncExceptionSink(
+      final int capacity,
+      final int maxBatchSize,
+      final DropPolicy dropPolicy,
+      final Consumer<? super List<Exception>> batchConsumer,
+      final ThreadFactory threadFactory) {
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (var i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.dropPolicy = dropPolicy;
+    this.batchConsumer = batchConsumer;
+    this.drainer = threadFactory.newThread(this::drain);
+  }
+
+  /**
+   * Starts an {@link AsyncExceptionSink}, drained by a <em>daemon</em> thread.
+   *
+   * @param capacity of the ring buffer, rounded up to a power of two. <strong>MUST</strong> be
+   *     positive.
+   * @param maxBatchSize of each batch. <strong>MUST</strong> be positive.
+   * @param dropPolicy when the ring buffer is full.
+   * @param batchConsumer of drained batches, invoked on the drainer thread.
+   * @return a new, started, {@link AsyncExceptionSink}.
+   * @throws IllegalArgumentException if {@code capacity} or {@code maxBatchSize} is not positive,
+   *     or if {@code dropPolicy} or {@code batchConsumer} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, _, _, _ -> new")
+  public static AsyncExceptionSink start(
+      final int capacity,
+      final int maxBatchSize,
+      final DropPolicy dropPolicy,
+      final Consumer<? super List<Exception>> batchConsumer) {
+    return start(
+        capacity,
+        maxBatchSize,
+        dropPolicy,
+        batchConsumer,
+        runnable -> {
+          final var thread = new Thread(runnable, "exception-sink-drainer");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Starts an {@link AsyncExceptionSink}, drained by a thread of the {@code threadFactory}, e.g. a
+   * <em>virtual</em> thread.
+   *
+   * @param capacity of the ring buffer, rounded up to a power of two. <strong>MUST</strong> be
+   *     positive.
+   * @param maxBatchSize of each batch. <strong>MUST</strong> be positive.
+   * @param dropPolicy when the ring buffer is full.
+   * @param batchConsumer of drained batches, invoked on the drainer thread.
+   * @param threadFactory of the drainer thread.
+   * @return a new, started, {@link AsyncExceptionSink}.
+   * @throws IllegalArgumentException if {@code capacity} or {@code maxBatchSize} is not positive,
+   *     or if {@code dropPolicy}, {@code batchConsumer} or {@code threadFactory} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, _, _, _, _ -> new")
+  @SuppressWarnings("ConstantValue")
+  public static AsyncExceptionSink start(
+      final int capacity,
+      final int maxBatchSize,
+      final DropPolicy dropPolicy,
+      final Consumer<? super List<Exception>> batchConsumer,
+      final ThreadFactory threadFactory) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("`capacity` MUST be positive");
+    }
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("`maxBatchSize` MUST be positive");
+    }
+    if (dropPolicy == null) {
+      throw new IllegalArgumentException("`dropPolicy` MUST NOT be `null`");
+    }
+    if (batchConsumer == null) {
+      throw new IllegalArgumentException("`batchConsumer` MUST NOT be `null`");
+    }
+    if (threadFactory == null) {
+      throw new IllegalArgumentException("`threadFactory` MUST NOT be `null`");
+    }
+    final var roundedCapacity =
+        Math.max(2, Integer.highestOneBit(Math.min(capacity - 1, MAX_CAPACITY / 2)) << 1);
+    final var sink =
+        new AsyncExceptionSink(
+            roundedCapacity, maxBatchSize, dropPolicy, batchConsumer, threadFactory);
+    sink.drainer.start();
+    return sink;
+  }
+
+  /**
+   * Enqueues the {@code exception}, without blocking. If the ring buffer is full, an exception is
+   * dropped according to the {@link DropPolicy}. Exceptions enqueued after {@link #close()} are
+   * dropped.
+   *
+   * @param exception to enqueue.
+   * @since 0.7.0
+   */
+  @Override
+  public void accept(final Exception exception) {
+    // Registered before checking `closed`, such that the drainer awaits this exception.
+    activeProducers.incrementAndGet();
+    try {
+      if (closed) {
+        droppedCount.increment();
+        return;
+      }
+      if (offer(exception)) {
+        return;
+      }
+      if (dropPolicy == DropPolicy.DROP_OLDEST && poll() != null) {
+        droppedCount.increment();
+        if (offer(exception)) {
+          return;
+        }
+      }
+      droppedCount.increment();
+    } finally {
+      activeProducers.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the number of dropped exceptions.
+   *
+   * @return the number of dropped exceptions.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * Stops accepting exceptions, and waits for the drainer thread to drain all enqueued exceptions,
+   * including those enqueued concurrently with this method. If interrupted while waiting, the
+   * <em>interrupt status</em> is restored and this method returns, while the drainer thread
+   * continues draining.
+   *
+   * @since 0.7.0
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(drainer);
+    try {
+      drainer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Enqueues the {@code exception}, if the ring buffer is not full.
+   *
+   * @param exception to enqueue.
+   * @return whether the {@code exception} was enqueued.
+   */
+  private boolean offer(final Exception exception) {
+    var index = producerIndex.get();
+    while (true) {
+      final var slot = (int) index & mask;
+      final var difference = sequences.get(slot) - index;
+      if (difference == 0) {
+        if (producerIndex.compareAndSet(index, index + 1)) {
+          slots.set(slot, exception);
+          sequences.set(slot, index + 1);
+          return true;
+        }
+        index = producerIndex.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        index = producerIndex.get();
+      }
+    }
+  }
+
+  /**
+   * Dequeues the oldest exception, if the ring buffer is not empty.
+   *
+   * @return the oldest exception, or {@code null} if the ring buffer is empty.
+   */
+  private @Nullable Exception poll() {
+    var index = consumerIndex.get();
+    while (true) {
+      final var slot = (int) index & mask;
+      final var difference = sequences.get(slot) - (index + 1);
+      if (difference == 0) {
+        if (consumerIndex.compareAndSet(index, index + 1)) {
+          final var exception = slots.get(slot);
+          slots.set(slot, null);
+          sequences.set(slot, index + mask + 1);
+          return exception;
+        }
+        index = consumerIndex.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        index = consumerIndex.get();
+      }
+    }
+  }
+
+  /**
+   * Drains the ring buffer in batches, until {@link #close()}d and empty. The ring buffer is only
+   * considered empty once no producer may still enqueue an exception.
+   */
+  private void drain() {
+    while (true) {
+      final var drained = closed && activeProducers.get() == 0;
+      var exception = poll();
+      if (exception == null) {
+        if (drained) {
+          return;
+        }
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        continue;
+      }
+      final var batch = new ArrayList<Exception>(Math.min(maxBatchSize, mask + 1));
+      while (exception != null) {
+        batch.add(exception);
+        exception = batch.size() < maxBatchSize ? poll() : null;
+      }
+      consume(batch);
+    }
+  }
+
+  /**
+   * Passes the {@code batch} to the {@link #batchConsumer}. Exceptions thrown by the {@link
+   * #batchConsumer} are passed to the {@link Thread.UncaughtExceptionHandler} of the drainer
+   * thread, which continues draining.
+   *
+   * @param batch to consume.
+   */
+  private void consume(final List<Exception> batch) {
+    try {
+      batchConsumer.accept(Collections.unmodifiableList(batch));
+    } catch (RuntimeException e) {
+      final var thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.github.chrimle.exceptionfactory;
+
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A <em>pre-compiled</em> message-template, split into <em>literal segments</em> around its {@code
+ * %s} <em>format specifiers</em>.
+ *
+ * <p>Templates are parsed <em>once</em>, and are formatted by plain concatenation of the segments
+ * and arguments, without invoking {@link java.util.Formatter}. The formatted {@code String} is
+ * identical to {@link String#format(String, Object...)}, including {@code null} arguments being
+ * rendered as {@code "null"}.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class CompiledTemplate {
+
+  /** The <em>literal segments</em>, surrounding each argument. */
+  private final String[] segments;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param segments of the template.
+   */
+  @Contract(pure = true)
+  private CompiledTemplate(final String[] segments) {
+    this.segments = segments;
+  }
+
+  /**
+   * Compiles the {@code template}, which <strong>MUST</strong> have exactly {@code argCount} {@code
+   * %s} <em>format specifiers</em>. The only other supported <em>format specifier</em> is {@code
+   * %%}.
+   *
+   * @param template to compile.
+   * @param argCount of the {@code template}.
+   * @return the compiled template.
+   * @throws IllegalArgumentException if the {@code template} has an unsupported <em>format
+   *     specifier</em>, or does not have {@code argCount} arguments.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  static CompiledTemplate compile(final String template, final int argCount) {
+    final var segments = new String[argCount + 1];
+    final var segment = new StringBuilder(template.length());
+    var segmentIndex = 0;
+    for (var i = 0; i < template.length(); i++) {
+      final var c = template.charAt(i);
+      if (c != '%') {
+        segment.append(c);
+        continue;
+      }
+      final var specifier = i + 1 < template.length() ? template.charAt(++i) : '\0';
+      if (specifier == '%') {
+        segment.append('%');
+      } else if (specifier == 's' && segmentIndex < argCount) {
+        segments[segmentIndex++] = segment.toString();
+        segment.setLength(0);
+      } else {
+        throw new IllegalArgumentException(
+            "`template` MUST only contain " + argCount + " `%s` format specifier(s)");
+      }
+    }
+    if (segmentIndex != argCount) {
+      throw new IllegalArgumentException(
+          "`template` MUST only contain " + argCount + " `%s` format specifier(s)");
+    }
+    segments[segmentIndex] = segment.toString();
+    return new CompiledTemplate(segments);
+  }
+
+  /**
+   * Formats this <strong>ONE</strong>-argument template with the {@code arg}.
+   *
+   * @param arg to format with.
+   * @return the formatted String.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String format(final @Nullable String arg) {
+    return segments[0] + arg + segments[1];
+  }
+
+  /**
+   * Formats this <strong>TWO</strong>-argument template with the {@code argOne} and {@code
+   * argTwo}.
+   *
+   * @param argOne to format with.
+   * @param argTwo to format with.
+   * @return the formatted String.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String format(final @Nullable String argOne, final @Nullable String argTwo) {
+    return segments[0] + argOne + segments[1] + argTwo + segments[2];
+  }
+
+  /**
+   * Formats this <strong>TWO</strong>-argument template with the {@code argOne} and {@code
+   * argTwo}, appending {@code argTwo} without converting it to an intermediate {@code String}.
+   *
+   * @param argOne to format with.
+   * @param argTwo to format with.
+   * @return the formatted String.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String format(final @Nullable String argOne, final int argTwo) {
+    return segments[0] + argOne + segments[1] + argTwo + segments[2];
+  }
+
+  /**
+   * Formats this <strong>TWO</strong>-argument template with the {@code argOne} and {@code
+   * argTwo}, appending {@code argTwo} without converting it to an intermediate {@code String}.
+   *
+   * @param argOne to format with.
+   * @param argTwo to format with.
+   * @return the formatted String.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String format(final @Nullable String argOne, final long argTwo) {
+    return segments[0] + argOne + segments[1] + argTwo + segments[2];
+  }
+
+  /**
+   * Formats this <strong>TWO</strong>-argument template with the {@code argOne} and {@code
+   * argTwo}, appending {@code argTwo} without converting it to an intermediate {@code String}.
+   *
+   * @param argOne to format with.
+   * @param argTwo to format with.
+   * @return the formatted String.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String format(final @Nullable String argOne, final double argTwo) {
+    return segments[0] + argOne + segments[1] + argTwo + segments[2];
+  }
+
+  /**
+   * Returns the <em>literal segment</em> preceding the argument at the {@code index}, or following
+   * the last argument if the {@code index} is the number of arguments.
+   *
+   * @param index of the <em>literal segment</em>.
+   * @return the <em>literal segment</em>.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String getSegment(final int index) {
+    return segments[index];
+  }
+}
@@ -0,0 +1,539 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Builder</em> of {@link Exception}s.
+ *
+ * @param <T> {@link Exception}-class <em>instance</em> to build and instantiate.
+ * @since 0.1.0
+ * @author Chrimle
+ */
+public final class ExceptionBuilder<T extends Exception> {
+
+  /** <em>Thread-confined</em> reusable {@link ExceptionBuilder}s, per {@link Exception}-class. */
+  private static final ClassValue<ThreadLocal<ExceptionBuilder<?>>> REUSABLE_BUILDERS =
+      new ClassValue<>() {
+        @Override
+        protected ThreadLocal<ExceptionBuilder<?>> computeValue(final Class<?> type) {
+          final var exceptionConstructor =
+              ExceptionConstructor.require(type.asSubclass(Exception.class));
+          return ThreadLocal.withInitial(() -> new ExceptionBuilder<>(exceptionConstructor, true));
+        }
+      };
+
+  /** The resolved constructor of the {@link Exception}-class to build and instantiate. */
+  private final ExceptionConstructor<T> exceptionConstructor;
+
+  /** Whether this is a <em>reusable</em> {@link ExceptionBuilder} of a thread. */
+  private final boolean reusable;
+
+  /** The {@code message} of the {@link Exception}. */
+  private @Nullable String message;
+
+  /** The <em>message template</em> of the {@link #message}, if any. */
+  private @Nullable Enum<?> messageTemplate;
+
+  /** The {@code cause} of the {@link Exception}. */
+  private @Nullable Throwable cause;
+
+  /** Whether the {@link Exception} is built <em>without</em> a <em>stack trace</em>. */
+  private boolean stackless;
+
+  /** The maximum depth of the <em>stack trace</em>, or {@code -1} if unlimited. */
+  private int stackTraceDepth = -1;
+
+  /** The {@link StackTraceSampler} of the <em>stack trace</em>, or {@code null} if always. */
+  private @Nullable StackTraceSampler stackTraceSampler;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param exceptionConstructor for the builder.
+   * @param reusable whether the builder is <em>reusable</em>.
+   */
+  @Contract(pure = true)
+  private ExceptionBuilder(
+      final ExceptionConstructor<T> exceptionConstructor, final boolean reusable) {
+    this.exceptionConstructor = exceptionConstructor;
+    this.reusable = reusable;
+  }
+
+  /**
+   * Creates a new {@link ExceptionBuilder} instance for building and instantiating an {@link
+   * Exception} of type {@link C}.
+   *
+   * @param exceptionClass to build and instantiate.
+   * @return a new {@link ExceptionBuilder} instance.
+   * @param <C> to build and instantiate.
+   * @since 0.1.0
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}. {@code
+   *     exceptionClass} <strong>MUST NOT</strong> be {@code null}.
+   * @throws IllegalArgumentException if {@code exceptionClass} does not have a constructor with
+   *     method arguments {@code ExampleException(String, Throwable)}. {@code exceptionClass}
+   *     <strong>MUST</strong> have a {@code (String, Throwable)} constructor.
+   */
+  @Contract("null -> fail; _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static <C extends Exception> ExceptionBuilder<C> of(final Class<C> exceptionClass) {
+    return new ExceptionBuilder<>(ExceptionConstructor.require(exceptionClass), false);
+  }
+
+  /**
+   * Returns the <em>reusable</em> {@link ExceptionBuilder} of the current thread, for building and
+   * instantiating an {@link Exception} of type {@link C}. The returned builder is {@link #reset()}.
+   *
+   * <p>Each thread has its own builder per {@link Exception}-class, which is created and validated
+   * <em>once</em>, avoiding the allocation of a new builder per exception in <em>tight loops</em>.
+   * The returned builder <strong>MUST NOT</strong> be shared with other threads, and
+   * <strong>MUST</strong> be built before this method is invoked again with the same {@code
+   * exceptionClass} on the same thread, which resets it. The {@code message} and {@code cause} are
+   * cleared by {@link #build()}, such that the builder does not retain them.
+   *
+   * <p>Builders of <em>virtual</em> threads are discarded along with the thread. Prefer {@link
+   * #of(Class)} for virtual threads which only build a few exceptions each.
+   *
+   * @param exceptionClass to build and instantiate.
+   * @return the <em>reusable</em> {@link ExceptionBuilder} of the current thread.
+   * @param <C> to build and instantiate.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @see #reset()
+   * @since 0.7.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract", "unchecked"})
+  public static <C extends Exception> ExceptionBuilder<C> reusable(final Class<C> exceptionClass) {
+    if (exceptionClass == null) {
+      throw new IllegalArgumentException("`exceptionClass` is `null`");
+    }
+    return ((ExceptionBuilder<C>) REUSABLE_BUILDERS.get(exceptionClass).get()).reset();
+  }
+
+  /**
+   * Resets this {@link ExceptionBuilder} to its initial state, such that it can be reused to build
+   * another {@link T}. The {@code message}, {@code cause}, <em>stackless</em>, <em>stack trace
+   * depth</em> and {@link StackTraceSampler} are all cleared.
+   *
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.7.0
+   */
+  @Contract(value = " -> this", mutates = "this")
+  public ExceptionBuilder<T> reset() {
+    this.message = null;
+    this.messageTemplate = null;
+    this.cause = null;
+    this.stackless = false;
+    this.stackTraceDepth = -1;
+    this.stackTraceSampler = null;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}.
+   *
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.1.0
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public ExceptionBuilder<T> setMessage(final @Nullable String message) {
+    this.message = message;
+    this.messageTemplate = null;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by invoking {@code
+   * messageBuilder} with {@code messageArg}.
+   *
+   * @param messageBuilder to invoke. <strong>MUST NOT</strong> be {@code null}.
+   * @param messageArg to invoke with. <strong>MAY</strong> be {@code null}.
+   * @since 0.1.0
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageBuilder} is {@code null}.
+   */
+  @Contract("null, _ -> fail; _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final UnaryOperator<@Nullable String> messageBuilder, final @Nullable String messageArg) {
+    if (messageBuilder == null) {
+      throw new IllegalArgumentException("`messageBuilder` MUST NOT be `null`");
+    }
+    this.message = messageBuilder.apply(messageArg);
+    this.messageTemplate = null;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by invoking {@code
+   * messageBuilder} with {@code messageArg1} and {@code messageArg2}.
+   *
+   * @param messageBuilder to invoke. <strong>MUST NOT</strong> be {@code null}.
+   * @param messageArg1 to invoke with. <strong>MAY</strong> be {@code null}.
+   * @param messageArg2 to invoke with. <strong>MAY</strong> be {@code null}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.1.0
+   * @throws IllegalArgumentException if {@code messageBuilder} is {@code null}.
+   */
+  @Contract("null, _, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final BiFunction<@Nullable String, @Nullable String, @Nullable String> messageBuilder,
+      final @Nullable String messageArg1,
+      final @Nullable String messageArg2) {
+    if (messageBuilder == null) {
+      throw new IllegalArgumentException("`messageBuilder` MUST NOT be `null`");
+    }
+    this.message = messageBuilder.apply(messageArg1, messageArg2);
+    this.messageTemplate = null;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by <em>formatting</em> {@code
+   * formattedString} with the <em>format specifiers</em> {@code messageArgs}.
+   *
+   * @see String#formatted(Object...)
+   * @param formattedString to be <em>formatted</em>. <strong>MUST</strong> conform to {@link
+   *     String#formatted(Object...)}.
+   * @param messageArgs to be used as <em>format specifiers</em>.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.1.0
+   * @throws IllegalArgumentException if {@code formattedString} is {@code null}.
+   */
+  @Contract("null, _ -> fail; _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final String formattedString, final @Nullable String @Nullable ... messageArgs) {
+    if (formattedString == null) {
+      throw new IllegalArgumentException("`formattedString` MUST NOT be `null`");
+    }
+    this.message = formattedString.formatted((Object[]) messageArgs);
+    this.messageTemplate = null;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArg} to the {@code messageTemplate}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArg to be supplied to the {@code messageTemplate}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("null, _ -> fail; _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final MessageTemplates.OneArgTemplate messageTemplate, final @Nullable String messageArg) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArg);
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArgOne} and {@code messageArgTwo} to the {@code messageTemplate}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArgOne to be supplied to the {@code messageTemplate}.
+   * @param messageArgTwo to be supplied to the {@code messageTemplate}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("null, _, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String messageArgOne,
+      final @Nullable String messageArgTwo) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArgOne, messageArgTwo);
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArgOne} and {@code messageArgTwo} to the {@code messageTemplate}, without converting
+   * {@code messageArgTwo} to an intermediate {@code String}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArgOne to be supplied to the {@code messageTemplate}.
+   * @param messageArgTwo to be supplied to the {@code messageTemplate}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, int)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String messageArgOne,
+      final int messageArgTwo) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArgOne, messageArgTwo);
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArgOne} and {@code messageArgTwo} to the {@code messageTemplate}, without converting
+   * {@code messageArgTwo} to an intermediate {@code String}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArgOne to be supplied to the {@code messageTemplate}.
+   * @param messageArgTwo to be supplied to the {@code messageTemplate}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, long)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String messageArgOne,
+      final long messageArgTwo) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArgOne, messageArgTwo);
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArgOne} and {@code messageArgTwo} to the {@code messageTemplate}, without converting
+   * {@code messageArgTwo} to an intermediate {@code String}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArgOne to be supplied to the {@code messageTemplate}.
+   * @param messageArgTwo to be supplied to the {@code messageTemplate}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, double)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String messageArgOne,
+      final double messageArgTwo) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArgOne, messageArgTwo);
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code message} to be used when instantiating {@link T}, by applying the {@code
+   * messageArgs} to the {@code messageTemplate}.
+   *
+   * @param messageTemplate to use.
+   * @param messageArgs to be supplied to the {@code messageTemplate}. <strong>MUST</strong> be
+   *     exactly {@link NArgTemplate#getArgCount()} arguments.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}, or if the number
+   *     of {@code messageArgs} does not match the {@code messageTemplate}.
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public ExceptionBuilder<T> setMessage(
+      final NArgTemplate messageTemplate, final @Nullable String @Nullable ... messageArgs) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    this.message = messageTemplate.format(messageArgs);
+    this.messageTemplate = null;
+    return this;
+  }
+
+  /**
+   * Sets the already formatted {@code message} of the {@code messageTemplate}, to be used when
+   * instantiating {@link T}.
+   *
+   * @param message formatted from the {@code messageTemplate}.
+   * @param messageTemplate of the {@code message}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.7.0
+   */
+  @Contract(value = "_, _ -> this", mutates = "this")
+  ExceptionBuilder<T> setTemplatedMessage(final String message, final Enum<?> messageTemplate) {
+    this.message = message;
+    this.messageTemplate = messageTemplate;
+    return this;
+  }
+
+  /**
+   * Sets the {@code cause} to be used when instantiating {@link T},
+   *
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.1.0
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public ExceptionBuilder<T> setCause(final @Nullable Throwable cause) {
+    this.cause = cause;
+    return this;
+  }
+
+  /**
+   * Sets whether {@link T} is to be instantiated <em>without</em> filling in its <em>stack
+   * trace</em>, which is the dominant cost of instantiating an {@link Exception}.
+   *
+   * <p><em>Stackless</em> exceptions are instantiated via an accessible {@code (String, Throwable,
+   * boolean, boolean)} constructor, with <em>suppression</em> and <em>writable stack trace</em>
+   * disabled. {@link Exception}, {@link RuntimeException}, {@link IllegalArgumentException},
+   * {@link IllegalStateException} and {@link UnsupportedOperationException} are instead
+   * instantiated as <em>stackless</em> sub-classes, of which only the former two have
+   * <em>suppression</em> disabled. Any other {@link Exception}-class is
+   * instantiated via its {@code (String, Throwable)} constructor, after which its <em>stack
+   * trace</em> is cleared.
+   *
+   * @param stackless whether to omit the <em>stack trace</em>.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.7.0
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public ExceptionBuilder<T> setStackless(final boolean stackless) {
+    this.stackless = stackless;
+    return this;
+  }
+
+  /**
+   * Sets the maximum depth of the <em>stack trace</em> of {@link T}. Leading frames of this
+   * library, such as {@link #build()} and {@link ExceptionFactory}, are omitted.
+   *
+   * <p>The <em>stack trace</em> is captured via {@link StackWalker}, materializing only the
+   * retained frames as {@link StackTraceElement}s. {@link T} is still instantiated as its own
+   * class, which fills in its <em>stack trace</em> before it is replaced. Has no effect if {@link
+   * #setStackless(boolean) stackless}.
+   *
+   * @param maxDepth of the <em>stack trace</em>. <strong>MUST NOT</strong> be negative.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @throws IllegalArgumentException if {@code maxDepth} is negative.
+   * @since 0.7.0
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public ExceptionBuilder<T> setStackTraceDepth(final int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("`maxDepth` MUST NOT be negative");
+    }
+    this.stackTraceDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * Sets the {@link StackTraceSampler}, which determines whether {@link T} captures a <em>stack
+   * trace</em>. If not sampled, {@link T} is instantiated as its own class with an empty <em>stack
+   * trace</em>. Unless {@link T} has an accessible {@code (String, Throwable, boolean, boolean)}
+   * constructor, its <em>stack trace</em> is filled in before it is cleared. Has no effect if
+   * {@link #setStackless(boolean) stackless}.
+   *
+   * @param stackTraceSampler to use. <strong>MAY</strong> be {@code null}, in which case a
+   *     <em>stack trace</em> is always captured.
+   * @return <em>this</em> {@link ExceptionBuilder}.
+   * @since 0.7.0
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public ExceptionBuilder<T> setStackTraceSampler(
+      final @Nullable StackTraceSampler stackTraceSampler) {
+    this.stackTraceSampler = stackTraceSampler;
+    return this;
+  }
+
+  /**
+   * Builds the {@link T} instance, by invoking the constructor with {@link #message} and {@link
+   * #cause}.
+   *
+   * <p>The constructor is resolved <em>once</em> per {@link Exception}-class, and reused by all
+   * {@link ExceptionBuilder}s of the same {@link Exception}-class.
+   *
+   * <p>A {@link #reusable(Class)} builder clears its {@code message} and {@code cause} once built.
+   *
+   * @return the new {@link T} instance.
+   * @see #setStackless(boolean)
+   * @see #setStackTraceDepth(int)
+   * @see #setStackTraceSampler(StackTraceSampler)
+   * @see ExceptionMetrics
+   * @since 0.1.0
+   */
+  @Contract(" -> new")
+  public T build() {
+    final var exception =
+        instantiate(
+            exceptionConstructor,
+            message,
+            messageTemplate,
+            cause,
+            stackless,
+            stackTraceDepth,
+            stackTraceSampler);
+    if (reusable) {
+      this.message = null;
+      this.messageTemplate = null;
+      this.cause = null;
+    }
+    return exception;
+  }
+
+  /**
+   * Instantiates an {@link Exception} via the {@code exceptionConstructor}, according to the
+   * <em>stack trace</em> policy. The {@link Exception} is recorded in {@link ExceptionMetrics},
+   * and reported to the {@link ExceptionSink}.
+   *
+   * @param exceptionConstructor to instantiate with.
+   * @param message of the {@link Exception}.
+   * @param messageTemplate of the {@code message}, if any.
+   * @param cause of the {@link Exception}.
+   * @param stackless whether to omit the <em>stack trace</em>.
+   * @param stackTraceDepth of the <em>stack trace</em>, or {@code -1} if unlimited.
+   * @param stackTraceSampler of the <em>stack trace</em>, or {@code null} if always.
+   * @return the new {@link Exception}.
+   * @param <C> to instantiate.
+   */
+  static <C extends Exception> C instantiate(
+      final ExceptionConstructor<C> exceptionConstructor,
+      final @Nullable String message,
+      final @Nullable Enum<?> messageTemplate,
+      final @Nullable Throwable cause,
+      final boolean stackless,
+      final int stackTraceDepth,
+      final @Nullable StackTraceSampler stackTraceSampler) {
+    final var exceptionClass = exceptionConstructor.getExceptionClass();
+    ExceptionMetrics.record(exceptionClass, messageTemplate);
+    if (stackless) {
+      return ExceptionFactory.report(exceptionConstructor.newStacklessInstance(message, cause));
+    }
+    if (stackTraceSampler != null && !stackTraceSampler.sample(exceptionClass)) {
+      return ExceptionFactory.report(
+          exceptionConstructor.newInstanceWithoutStackTrace(message, cause));
+    }
+    final var exception = exceptionConstructor.newInstance(message, cause);
+    if (stackTraceDepth >= 0) {
+      exception.setStackTrace(StackTraces.capture(stackTraceDepth));
+    }
+    return ExceptionFactory.report(exception);
+  }
+}
@@ -0,0 +1,469 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compact <em>binary</em> encoder and decoder of exceptions, e.g. for transport between services.
+ *
+ * <p>Each exception is encoded as the <em>id</em> of its {@link Exception}-class, its {@code
+ * message}, an <em>optional</em> truncated <em>stack trace</em>, and its <em>cause chain</em>.
+ * {@link TemplatedException}s are encoded as the <em>stable</em> id of their {@link
+ * MessageTemplate} and its raw arguments, rather than as a formatted {@code message}. Strings are
+ * encoded as UTF-8, and integers as <em>variable-length</em> integers, directly into the {@link
+ * ByteBuffer}, without creating intermediate {@code String}s.
+ *
+ * <p>The <em>id</em> of an {@link Exception}-class is its index in the list of registered classes,
+ * which <strong>MUST</strong> be identical when encoding and decoding. Exceptions of unregistered
+ * classes are encoded as their nearest registered super-class. Decoded exceptions are instances of
+ * the registered {@link Exception}-class, with the decoded <em>stack trace</em>. They are neither
+ * recorded in {@link ExceptionMetrics}, nor reported to the {@link ExceptionSink}, as they were not
+ * created locally.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * final var codec =
+ *     ExceptionCodec.of(List.of(IllegalArgumentException.class, IllegalStateException.class))
+ *         .withMaxStackTraceDepth(8);
+ * codec.encode(exception, buffer);
+ * buffer.flip();
+ * final var decodedException = codec.decode(buffer);
+ * }</pre>
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class ExceptionCodec {
+
+  /**
+   * Version of the encoded format, written as the first byte. Incremented along with {@link
+   * MessageTemplates#ID_VERSION}.
+   */
+  private static final byte FORMAT_VERSION = 1;
+
+  /** Maximum number of exceptions in an encoded <em>cause chain</em>. */
+  private static final int MAX_CAUSE_CHAIN_LENGTH = 16;
+
+  private static final byte NO_MESSAGE = 0;
+  private static final byte PLAIN_MESSAGE = 1;
+  private static final byte TEMPLATE_MESSAGE = 2;
+
+  private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+
+  /** Constructors of the registered {@link Exception}-classes, indexed by <em>id</em>. */
+  private final List<ExceptionConstructor<?>> exceptionConstructors;
+
+  /** <em>Ids</em> of the registered {@link Exception}-classes. */
+  private final Map<Class<?>, Integer> exceptionClassIds;
+
+  /** Maximum number of encoded <em>stack trace</em> elements, per exception. */
+  private final int maxStackTraceDepth;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param exceptionConstructors of the registered {@link Exception}-classes.
+   * @param exceptionClassIds of the registered {@link Exception}-classes.
+   * @param maxStackTraceDepth per exception.
+   */
+  @Contract(pure = true)
+  private ExceptionCodec(
+      final List<ExceptionConstructor<?>> exceptionConstructors,
+      final Map<Class<?>, Integer> exceptionClassIds,
+      final int maxStackTraceDepth) {
+    this.exceptionConstructors = exceptionConstructors;
+    this.exceptionClassIds = exceptionClassIds;
+    this.maxStackTraceDepth = maxStackTraceDepth;
+  }
+
+  /**
+   * Creates an {@link ExceptionCodec} of the {@code exceptionClasses}, which does not encode
+   * <em>stack traces</em>.
+   *
+   * @param exceptionClasses to register, each of which <strong>MUST</strong> have a {@code (String,
+   *     Throwable)} constructor. The <em>id</em> of each class is its index.
+   * @return a new {@link ExceptionCodec}.
+   * @throws IllegalArgumentException if {@code exceptionClasses} is {@code null}, or has {@code
+   *     null}, duplicate or non-instantiable {@link Exception}-classes.
+   * @since 0.7.0
+   */
+  @Contract("null -> fail; _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ExceptionCodec of(final List<Class<? extends Exception>> exceptionClasses) {
+    if (exceptionClasses == null) {
+      throw new IllegalArgumentException("`exceptionClasses` MUST NOT be `null`");
+    }
+    final var exceptionConstructors = new ArrayList<ExceptionConstructor<?>>();
+    final var exceptionClassIds = new HashMap<Class<?>, Integer>();
+    for (var id = 0; id < exceptionClasses.size(); id++) {
+      final var exceptionConstructor = ExceptionConstructor.require(exceptionClasses.get(id));
+      if (exceptionClassIds.put(exceptionConstructor.getExceptionClass(), id) != null) {
+        throw new IllegalArgumentException("`exceptionClasses` MUST NOT contain duplicates");
+      }
+      exceptionConstructors.add(exceptionConstructor);
+    }
+    return new ExceptionCodec(
+        List.copyOf(exceptionConstructors), Map.copyOf(exceptionClassIds), 0);
+  }
+
+  /**
+   * Returns a copy of this {@link ExceptionCodec}, which encodes at most {@code maxStackTraceDepth}
+   * <em>stack trace</em> elements per exception.
+   *
+   * @param maxStackTraceDepth per exception. <strong>MUST NOT</strong> be negative.
+   * @return a new {@link ExceptionCodec}.
+   * @throws IllegalArgumentException if {@code maxStackTraceDepth} is negative.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public ExceptionCodec withMaxStackTraceDepth(final int maxStackTraceDepth) {
+    if (maxStackTraceDepth < 0) {
+      throw new IllegalArgumentException("`maxStackTraceDepth` MUST NOT be negative");
+    }
+    return new ExceptionCodec(exceptionConstructors, exceptionClassIds, maxStackTraceDepth);
+  }
+
+  /**
+   * Encodes the {@code exception}, and its <em>cause chain</em>, into the {@code buffer}. The
+   * <em>cause chain</em> ends at the first {@code cause} which is not an {@link Exception}, or
+   * after {@code 16} exceptions.
+   *
+   * @param exception to encode.
+   * @param buffer to encode into.
+   * @throws IllegalArgumentException if {@code exception} or {@code buffer} is {@code null}, or if
+   *     any exception in the <em>cause chain</em> is not an instance of a registered class.
+   * @throws BufferOverflowException if the {@code buffer} has insufficient space remaining.
+   * @since 0.7.0
+   */
+  @Contract(mutates = "param2")
+  @SuppressWarnings("ConstantValue")
+  public void encode(final Exception exception, final ByteBuffer buffer) {
+    if (exception == null) {
+      throw new IllegalArgumentException("`exception` MUST NOT be `null`");
+    }
+    if (buffer == null) {
+      throw new IllegalArgumentException("`buffer` MUST NOT be `null`");
+    }
+    buffer.put(FORMAT_VERSION);
+    Throwable current = exception;
+    for (var length = 1; ; length++) {
+      encodeOne((Exception) current, buffer);
+      final var cause = current.getCause();
+      final var hasCause =
+          cause instanceof Exception && cause != current && length < MAX_CAUSE_CHAIN_LENGTH;
+      buffer.put((byte) (hasCause ? 1 : 0));
+      if (!hasCause) {
+        return;
+      }
+      current = cause;
+    }
+  }
+
+  /**
+   * Decodes an exception, and its <em>cause chain</em>, from the {@code buffer}.
+   *
+   * @param buffer to decode from.
+   * @return the decoded exception.
+   * @throws IllegalArgumentException if {@code buffer} is {@code null}, or does not contain a
+   *     valid encoded exception.
+   * @throws BufferUnderflowException if the {@code buffer} ends before the encoded exception.
+   * @since 0.7.0
+   */
+  @Contract(value = "null -> fail; _ -> new", mutates = "param1")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Exception decode(final ByteBuffer buffer) {
+    if (buffer == null) {
+      throw new IllegalArgumentException("`buffer` MUST NOT be `null`");
+    }
+    if (buffer.get() != FORMAT_VERSION) {
+      throw new IllegalArgumentException("`buffer` MUST contain a supported format version");
+    }
+    return decodeOne(buffer, 1);
+  }
+
+  /**
+   * Encodes the {@code exception}, excluding its {@code cause}.
+   *
+   * @param exception to encode.
+   * @param buffer to encode into.
+   */
+  private void encodeOne(final Exception exception, final ByteBuffer buffer) {
+    putVarInt(buffer, idOf(exception.getClass()));
+    if (exception instanceof TemplatedException templatedException) {
+      final var messageTemplate = templatedException.getMessageTemplate();
+      final var messageArgs = templatedException.getMessageArgs();
+      buffer.put(TEMPLATE_MESSAGE);
+      putVarInt(buffer, messageTemplate.getId());
+      for (final var messageArg : messageArgs) {
+        putString(buffer, messageArg);
+      }
+    } else {
+      final var message = exception.getMessage();
+      if (message == null) {
+        buffer.put(NO_MESSAGE);
+      } else {
+        buffer.put(PLAIN_MESSAGE);
+        putString(buffer, message);
+      }
+    }
+    if (maxStackTraceDepth == 0) {
+      putVarInt(buffer, 0);
+      return;
+    }
+    final var stackTrace = exception.getStackTrace();
+    final var depth = Math.min(stackTrace.length, maxStackTraceDepth);
+    putVarInt(buffer, depth);
+    for (var i = 0; i < depth; i++) {
+      final var stackTraceElement = stackTrace[i];
+      putString(buffer, stackTraceElement.getClassName());
+      putString(buffer, stackTraceElement.getMethodName());
+      putString(buffer, stackTraceElement.getFileName());
+      putVarInt(buffer, zigZag(stackTraceElement.getLineNumber()));
+    }
+  }
+
+  /**
+   * Decodes an exception, and its <em>cause chain</em>.
+   *
+   * @param buffer to decode from.
+   * @param length of the <em>cause chain</em>, including the decoded exception.
+   * @return the decoded exception.
+   */
+  private Exception decodeOne(final ByteBuffer buffer, final int length) {
+    final var id = getVarInt(buffer);
+    if (id < 0 || id >= exceptionConstructors.size()) {
+      throw new IllegalArgumentException("`buffer` MUST contain a registered exception class id");
+    }
+    final var exceptionConstructor = exceptionConstructors.get(id);
+    final var messageKind = buffer.get();
+    final @Nullable String message =
+        switch (messageKind) {
+          case NO_MESSAGE -> null;
+          case PLAIN_MESSAGE -> getString(buffer);
+          case TEMPLATE_MESSAGE -> {
+            final var messageTemplate = templateOf(getVarInt(buffer));
+            if (messageTemplate instanceof MessageTemplates.OneArgTemplate oneArgTemplate) {
+              yield oneArgTemplate.format(getString(buffer));
+            }
+            final var messageArg1 = getString(buffer);
+            yield ((MessageTemplates.TwoArgTemplate) messageTemplate)
+                .format(messageArg1, getString(buffer));
+          }
+          default ->
+              throw new IllegalArgumentException("`buffer` MUST contain a valid message kind");
+        };
+    final var depth = getVarInt(buffer);
+    // Each stack trace element occupies at least 4 bytes, which bounds the array allocated below.
+    if (depth < 0 || depth > buffer.remaining() / 4) {
+      throw new IllegalArgumentException("`buffer` MUST contain a valid stack trace depth");
+    }
+    final var stackTrace = depth == 0 ? EMPTY_STACK_TRACE : new StackTraceElement[depth];
+    for (var i = 0; i < depth; i++) {
+      final var className = getString(buffer);
+      final var methodName = getString(buffer);
+      final var fileName = getString(buffer);
+      final var lineNumber = unZigZag(getVarInt(buffer));
+      if (className == null || methodName == null) {
+        throw new IllegalArgumentException("`buffer` MUST contain valid stack trace elements");
+      }
+      stackTrace[i] = new StackTraceElement(className, methodName, fileName, lineNumber);
+    }
+    final var hasCause = buffer.get() != 0;
+    @Nullable Exception cause = null;
+    if (hasCause) {
+      if (length >= MAX_CAUSE_CHAIN_LENGTH) {
+        throw new IllegalArgumentException("`buffer` MUST contain a valid cause chain");
+      }
+      cause = decodeOne(buffer, length + 1);
+    }
+    final var exception = exceptionConstructor.newInstance(message, cause);
+    exception.setStackTrace(stackTrace);
+    return exception;
+  }
+
+  /**
+   * Returns the <em>id</em> of the nearest registered super-class of the {@code exceptionClass},
+   * including itself.
+   *
+   * @param exceptionClass to get the <em>id</em> of.
+   * @return the <em>id</em>.
+   */
+  private int idOf(final Class<?> exceptionClass) {
+    for (Class<?> type = exceptionClass; type != null; type = type.getSuperclass()) {
+      final var id = exceptionClassIds.get(type);
+      if (id != null) {
+        return id;
+      }
+    }
+    throw new IllegalArgumentException("`exception` MUST be an instance of a registered class");
+  }
+
+  /**
+   * Returns the {@link MessageTemplate} with the <em>id</em>.
+   *
+   * @param id of the {@link MessageTemplate}.
+   * @return the {@link MessageTemplate}.
+   */
+  private static MessageTemplate templateOf(final int id) {
+    try {
+      return MessageTemplates.ofId(id);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("`buffer` MUST contain a valid message template id", e);
+    }
+  }
+
+  /**
+   * Puts the {@code value} as an unsigned <em>variable-length</em> integer, of 7 bits per byte.
+   *
+   * @param buffer to put into.
+   * @param value to put.
+   */
+  private static void putVarInt(final ByteBuffer buffer, final int value) {
+    var remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buffer.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  /**
+   * Gets an unsigned <em>variable-length</em> integer, of 7 bits per byte.
+   *
+   * @param buffer to get from.
+   * @return the value.
+   */
+  private static int getVarInt(final ByteBuffer buffer) {
+    var value = 0;
+    for (var shift = 0; shift < 35; shift += 7) {
+      final var b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("`buffer` MUST contain valid variable-length integers");
+  }
+
+  private static int zigZag(final int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static int unZigZag(final int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Puts the {@code string} as its UTF-8 length plus one, or {@code 0} if {@code null}, followed by
+   * its UTF-8 bytes.
+   *
+   * @param buffer to put into.
+   * @param string to put. <strong>MAY</strong> be {@code null}.
+   */
+  private static void putString(final ByteBuffer buffer, final @Nullable String string) {
+    if (string == null) {
+      putVarInt(buffer, 0);
+      return;
+    }
+    final var length = string.length();
+    var utf8Length = length;
+    for (var i = 0; i < length; i++) {
+      final var c = string.charAt(i);
+      if (c >= 0x800) {
+        // Surrogate pairs are 2 chars of 4 bytes, all others 1 char of 3 bytes.
+        if (isSurrogatePair(string, i)) {
+          i++;
+        }
+        utf8Length += 2;
+      } else if (c >= 0x80) {
+        utf8Length++;
+      }
+    }
+    putVarInt(buffer, utf8Length + 1);
+    if (buffer.remaining() < utf8Length) {
+      throw new BufferOverflowException();
+    }
+    for (var i = 0; i < length; i++) {
+      final var c = string.charAt(i);
+      if (c < 0x80) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xC0 | (c >> 6)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      } else if (isSurrogatePair(string, i)) {
+        final var codePoint = Character.toCodePoint(c, string.charAt(++i));
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else {
+        buffer.put((byte) (0xE0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+  }
+
+  private static boolean isSurrogatePair(final String string, final int index) {
+    return Character.isHighSurrogate(string.charAt(index))
+        && index + 1 < string.length()
+        && Character.isLowSurrogate(string.charAt(index + 1));
+  }
+
+  /**
+   * Gets a {@code string}, as put by {@link #putString(ByteBuffer, String)}.
+   *
+   * @param buffer to get from.
+   * @return the {@code string}, or {@code null}.
+   */
+  private static @Nullable String getString(final ByteBuffer buffer) {
+    final var utf8Length = getVarInt(buffer) - 1;
+    if (utf8Length < 0) {
+      return null;
+    }
+    if (buffer.remaining() < utf8Length) {
+      throw new BufferUnderflowException();
+    }
+    final var chars = new char[utf8Length];
+    var length = 0;
+    final var end = buffer.position() + utf8Length;
+    while (buffer.position() < end) {
+      final var b = buffer.get() & 0xFF;
+      if (b < 0x80) {
+        chars[length++] = (char) b;
+        continue;
+      }
+      final var continuations = b < 0xE0 ? 1 : b < 0xF0 ? 2 : 3;
+      if (end - buffer.position() < continuations) {
+        throw new IllegalArgumentException("`buffer` MUST contain valid UTF-8 strings");
+      }
+      if (b < 0xE0) {
+        chars[length++] = (char) (((b & 0x1F) << 6) | continuation(buffer));
+      } else if (b < 0xF0) {
+        chars[length++] =
+            (char) (((b & 0x0F) << 12) | (continuation(buffer) << 6) | continuation(buffer));
+      } else {
+        final var codePoint =
+            ((b & 0x07) << 18)
+                | (continuation(buffer) << 12)
+                | (continuation(buffer) << 6)
+                | continuation(buffer);
+        chars[length++] = Character.highSurrogate(codePoint);
+        chars[length++] = Character.lowSurrogate(codePoint);
+      }
+    }
+    return new String(chars, 0, length);
+  }
+
+  private static int continuation(final ByteBuffer buffer) {
+    return buffer.get() & 0x3F;
+  }
+}
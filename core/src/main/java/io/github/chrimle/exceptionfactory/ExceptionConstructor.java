@@ -0,0 +1,428 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.time.DateTimeException;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Resolved {@code (String, Throwable)} constructor of an {@link Exception}-class.
+ *
+ * <p>Constructors are resolved <em>once</em> per {@link Class}, and cached in a {@link ClassValue}.
+ * Resolved constructors are invoked via a {@link MethodHandle}, avoiding the reflective lookup and
+ * access checks of {@link Constructor#newInstance(Object...)} on every instantiation.
+ *
+ * <p>A <em>stackless</em> constructor is resolved alongside, either as an accessible {@code
+ * (String, Throwable, boolean, boolean)} constructor, or as the constructor of a sub-class in
+ * {@link StacklessExceptions}.
+ *
+ * <p>Common JDK {@link Exception}-classes are never resolved reflectively. Instead, their
+ * constructors are invoked <em>directly</em>, which requires no reflection configuration for
+ * <em>ahead-of-time</em> compilation, such as GraalVM <em>native-image</em>.
+ *
+ * @param <T> {@link Exception}-class to instantiate.
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class ExceptionConstructor<T extends Exception> {
+
+  /** {@link MethodType} which all resolved {@link MethodHandle}s are adapted to. */
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(Exception.class, String.class, Throwable.class);
+
+  /** Empty <em>stack trace</em> of exceptions without a <em>stackless</em> constructor. */
+  private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
+
+  /** <em>Directly</em> invoked constructors of common JDK {@link Exception}-classes. */
+  private static final Map<Class<?>, ExceptionConstructor<?>> JDK_CONSTRUCTORS =
+      Map.ofEntries(
+          direct(Exception.class, Exception::new, StacklessExceptions.StacklessException::new),
+          direct(
+              RuntimeException.class,
+              RuntimeException::new,
+              StacklessExceptions.StacklessRuntimeException::new),
+          direct(
+              IllegalArgumentException.class,
+              IllegalArgumentException::new,
+              StacklessExceptions.StacklessIllegalArgumentException::new),
+          direct(
+              IllegalStateException.class,
+              IllegalStateException::new,
+              StacklessExceptions.StacklessIllegalStateException::new),
+          direct(
+              UnsupportedOperationException.class,
+              UnsupportedOperationException::new,
+              StacklessExceptions.StacklessUnsupportedOperationException::new),
+          direct(SecurityException.class, SecurityException::new, null),
+          direct(ConcurrentModificationException.class, ConcurrentModificationException::new, null),
+          direct(NoSuchElementException.class, NoSuchElementException::new, null),
+          direct(DateTimeException.class, DateTimeException::new, null),
+          direct(IOException.class, IOException::new, null));
+
+  /** Cache of resolved constructors, per {@link Exception}-class. */
+  private static final ClassValue<Optional<ExceptionConstructor<?>>> CONSTRUCTORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<ExceptionConstructor<?>> computeValue(final Class<?> type) {
+          final var jdkConstructor = JDK_CONSTRUCTORS.get(type);
+          if (jdkConstructor != null) {
+            return Optional.of(jdkConstructor);
+          }
+          return Optional.ofNullable(resolve(type.asSubclass(Exception.class)));
+        }
+      };
+
+  /** The {@link Exception}-class to instantiate. */
+  private final Class<T> exceptionClass;
+
+  /**
+   * The <em>directly</em> invoked {@code (String, Throwable)} constructor, or {@code null} if it is
+   * resolved reflectively.
+   */
+  private final @Nullable DirectConstructor<T> directConstructor;
+
+  /**
+   * The <em>directly</em> invoked <em>stackless</em> constructor, or {@code null} if there is none.
+   */
+  private final @Nullable DirectConstructor<? extends T> directStacklessConstructor;
+
+  /**
+   * The {@code (String, Throwable)} constructor, or {@code null} if it is invoked
+   * <em>directly</em>.
+   */
+  private final @Nullable Constructor<T> constructor;
+
+  /**
+   * The {@link MethodHandle} of the {@link #constructor}, or {@code null} if it could not be
+   * unreflected. In which case, {@link #constructor} is invoked reflectively.
+   */
+  private final @Nullable MethodHandle methodHandle;
+
+  /**
+   * The {@link MethodHandle} of the <em>stackless</em> constructor, or {@code null} if there is
+   * none.
+   */
+  private final @Nullable MethodHandle stacklessMethodHandle;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param exceptionClass to instantiate.
+   * @param directConstructor to invoke, or {@code null} if {@code constructor} is invoked.
+   * @param directStacklessConstructor to invoke, or {@code null} if there is none.
+   * @param constructor to invoke, or {@code null} if {@code directConstructor} is invoked.
+   * @param methodHandle of the {@code constructor}.
+   * @param stacklessMethodHandle of the <em>stackless</em> constructor.
+   */
+  @Contract(pure = true)
+  private ExceptionConstructor(
+      final Class<T> exceptionClass,
+      final @Nullable DirectConstructor<T> directConstructor,
+      final @Nullable DirectConstructor<? extends T> directStacklessConstructor,
+      final @Nullable Constructor<T> constructor,
+      final @Nullable MethodHandle methodHandle,
+      final @Nullable MethodHandle stacklessMethodHandle) {
+    this.exceptionClass = exceptionClass;
+    this.directConstructor = directConstructor;
+    this.directStacklessConstructor = directStacklessConstructor;
+    this.constructor = constructor;
+    this.methodHandle = methodHandle;
+    this.stacklessMethodHandle = stacklessMethodHandle;
+  }
+
+  /**
+   * Creates an entry of {@link #JDK_CONSTRUCTORS}.
+   *
+   * @param exceptionClass to instantiate.
+   * @param directConstructor to invoke.
+   * @param directStacklessConstructor to invoke, or {@code null} if there is none.
+   * @return the entry.
+   * @param <C> {@link Exception}-class to instantiate.
+   */
+  private static <C extends Exception> Map.Entry<Class<?>, ExceptionConstructor<?>> direct(
+      final Class<C> exceptionClass,
+      final DirectConstructor<C> directConstructor,
+      final @Nullable DirectConstructor<? extends C> directStacklessConstructor) {
+    return Map.entry(
+        exceptionClass,
+        new ExceptionConstructor<>(
+            exceptionClass, directConstructor, directStacklessConstructor, null, null, null));
+  }
+
+  /**
+   * Returns the cached {@link ExceptionConstructor} of the {@code exceptionClass}.
+   *
+   * @param exceptionClass to get the constructor of.
+   * @return the {@link ExceptionConstructor}, or {@code null} if {@code exceptionClass} does not
+   *     have a {@code (String, Throwable)} constructor.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @since 0.7.0
+   */
+  @SuppressWarnings("unchecked")
+  static <C extends Exception> @Nullable ExceptionConstructor<C> of(final Class<C> exceptionClass) {
+    return (ExceptionConstructor<C>) CONSTRUCTORS.get(exceptionClass).orElse(null);
+  }
+
+  /**
+   * Returns the cached {@link ExceptionConstructor} of the {@code exceptionClass}, which
+   * <strong>MUST</strong> have a {@code (String, Throwable)} constructor.
+   *
+   * @param exceptionClass to get the constructor of.
+   * @return the {@link ExceptionConstructor}.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}.
+   * @throws IllegalArgumentException if {@code exceptionClass} does not have a {@code (String,
+   *     Throwable)} constructor.
+   * @since 0.7.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  static <C extends Exception> ExceptionConstructor<C> require(final Class<C> exceptionClass) {
+    if (exceptionClass == null) {
+      throw new IllegalArgumentException("`exceptionClass` is `null`");
+    }
+    final var exceptionConstructor = of(exceptionClass);
+    if (exceptionConstructor == null) {
+      throw new IllegalArgumentException(
+          "`exceptionClass` does NOT have a (`String, Throwable`) constructor");
+    }
+    return exceptionConstructor;
+  }
+
+  /**
+   * Resolves the {@code (String, Throwable)} constructor of the {@code exceptionClass}.
+   *
+   * @param exceptionClass to resolve the constructor of.
+   * @return the resolved constructor, or {@code null} if it does not exist.
+   * @param <C> {@link Exception}-class to instantiate.
+   */
+  private static <C extends Exception> @Nullable ExceptionConstructor<C> resolve(
+      final Class<C> exceptionClass) {
+    final Constructor<C> constructor;
+    try {
+      constructor = exceptionClass.getDeclaredConstructor(String.class, Throwable.class);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+    return new ExceptionConstructor<>(
+        exceptionClass,
+        null,
+        null,
+        constructor,
+        unreflect(constructor),
+        resolveStackless(exceptionClass));
+  }
+
+  /**
+   * Resolves the <em>stackless</em> constructor of the {@code exceptionClass}, as a {@link
+   * MethodHandle} of {@link #CONSTRUCTOR_TYPE}.
+   *
+   * <p>The <em>stackless</em> constructor is an accessible {@code (String, Throwable, boolean,
+   * boolean)} constructor, invoked with <em>suppression</em> and <em>writable stack trace</em>
+   * disabled. The {@link Exception}-classes with a <em>stackless</em> sub-class in {@link
+   * StacklessExceptions} are never resolved, as they are instantiated <em>directly</em>.
+   *
+   * @param exceptionClass to resolve the <em>stackless</em> constructor of.
+   * @return the {@link MethodHandle}, or {@code null} if there is none.
+   */
+  private static @Nullable MethodHandle resolveStackless(
+      final Class<? extends Exception> exceptionClass) {
+    try {
+      final var constructor =
+          exceptionClass.getDeclaredConstructor(
+              String.class, Throwable.class, boolean.class, boolean.class);
+      if (!Modifier.isAbstract(exceptionClass.getModifiers())) {
+        final var module = ExceptionConstructor.class.getModule();
+        module.addReads(exceptionClass.getModule());
+        return MethodHandles.insertArguments(
+                MethodHandles.lookup().unreflectConstructor(constructor), 2, false, false)
+            .asType(CONSTRUCTOR_TYPE);
+      }
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      // There is no accessible stackless constructor.
+    }
+    return null;
+  }
+
+  /**
+   * Unreflects the {@code constructor} into a {@link MethodHandle} of {@link #CONSTRUCTOR_TYPE}.
+   *
+   * @param constructor to unreflect.
+   * @return the {@link MethodHandle}, or {@code null} if the {@code constructor} is not accessible,
+   *     or its declaring class is {@code abstract}.
+   */
+  private static @Nullable MethodHandle unreflect(final Constructor<?> constructor) {
+    if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+      return null;
+    }
+    final var module = ExceptionConstructor.class.getModule();
+    module.addReads(constructor.getDeclaringClass().getModule());
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the {@link Exception}-class of this constructor.
+   *
+   * @return the {@link Exception}-class.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  Class<T> getExceptionClass() {
+    return exceptionClass;
+  }
+
+  /**
+   * Returns whether the {@link Exception}-class has a <em>stackless</em> constructor, either as an
+   * accessible {@code (String, Throwable, boolean, boolean)} constructor, or as the constructor of
+   * a sub-class in {@link StacklessExceptions}.
+   *
+   * @return {@code true} if there is a <em>stackless</em> constructor, otherwise {@code false}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  boolean hasStacklessConstructor() {
+    return directStacklessConstructor != null || stacklessMethodHandle != null;
+  }
+
+  /**
+   * Instantiates {@link T} with the {@code message} and {@code cause}.
+   *
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance.
+   * @throws RuntimeException if the constructor could not be invoked, or threw an exception.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  T newInstance(final @Nullable String message, final @Nullable Throwable cause) {
+    if (directConstructor != null) {
+      return directConstructor.newInstance(message, cause);
+    }
+    if (methodHandle == null) {
+      return newInstanceReflectively(message, cause);
+    }
+    return invoke(methodHandle, message, cause);
+  }
+
+  /**
+   * Instantiates {@link T} with the {@code message} and {@code cause}, <em>without</em> filling in
+   * its <em>stack trace</em>.
+   *
+   * <p>If the {@link Exception}-class has no <em>stackless</em> constructor, {@link T} is
+   * instantiated via {@link #newInstance(String, Throwable)}, after which its <em>stack
+   * trace</em> is cleared. In which case, the cost of filling in the <em>stack trace</em> is
+   * <em>not</em> avoided.
+   *
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance, <strong>MAY</strong> be a <em>sub-class</em> of {@link T}.
+   * @throws RuntimeException if the constructor could not be invoked, or threw an exception.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  T newStacklessInstance(final @Nullable String message, final @Nullable Throwable cause) {
+    if (directStacklessConstructor != null) {
+      return directStacklessConstructor.newInstance(message, cause);
+    }
+    return newInstanceWithoutStackTrace(message, cause);
+  }
+
+  /**
+   * Instantiates exactly {@link T} with the {@code message} and {@code cause}, and an empty
+   * <em>stack trace</em>.
+   *
+   * <p>If the {@link Exception}-class has an accessible {@code (String, Throwable, boolean,
+   * boolean)} constructor, its <em>stack trace</em> is never filled in. Otherwise, {@link T} is
+   * instantiated via {@link #newInstance(String, Throwable)}, after which its <em>stack trace</em>
+   * is cleared. In which case, the cost of filling in the <em>stack trace</em> is <em>not</em>
+   * avoided.
+   *
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance.
+   * @throws RuntimeException if the constructor could not be invoked, or threw an exception.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  T newInstanceWithoutStackTrace(final @Nullable String message, final @Nullable Throwable cause) {
+    if (stacklessMethodHandle != null) {
+      return invoke(stacklessMethodHandle, message, cause);
+    }
+    final var exception = newInstance(message, cause);
+    exception.setStackTrace(EMPTY_STACK_TRACE);
+    return exception;
+  }
+
+  /**
+   * Instantiates {@link T} by invoking the {@code methodHandle}.
+   *
+   * @param methodHandle of {@link #CONSTRUCTOR_TYPE} to invoke.
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance.
+   */
+  private T invoke(
+      final MethodHandle methodHandle,
+      final @Nullable String message,
+      final @Nullable Throwable cause) {
+    try {
+      return exceptionClass.cast((Exception) methodHandle.invokeExact(message, cause));
+    } catch (Throwable throwable) {
+      throw new RuntimeException(
+          "InvocationTargetException", new InvocationTargetException(throwable));
+    }
+  }
+
+  /**
+   * Instantiates {@link T} by reflectively invoking the {@link #constructor}.
+   *
+   * @param message of the exception. <strong>MAY</strong> be {@code null}.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance.
+   */
+  @SuppressWarnings("DataFlowIssue")
+  private T newInstanceReflectively(
+      final @Nullable String message, final @Nullable Throwable cause) {
+    try {
+      return constructor.newInstance(message, cause);
+    } catch (InvocationTargetException e) {
+      throw new RuntimeException("InvocationTargetException", e);
+    } catch (InstantiationException e) {
+      throw new RuntimeException("InstantiationException", e);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException("IllegalAccessException", e);
+    }
+  }
+
+  /**
+   * A {@code (String, Throwable)} constructor, invoked <em>directly</em>.
+   *
+   * @param <T> {@link Exception}-class to instantiate.
+   */
+  @FunctionalInterface
+  private interface DirectConstructor<T extends Exception> {
+
+    /**
+     * Instantiates {@link T} with the {@code message} and {@code cause}.
+     *
+     * @param message of the exception. <strong>MAY</strong> be {@code null}.
+     * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+     * @return the new {@link T} instance.
+     */
+    T newInstance(@Nullable String message, @Nullable Throwable cause);
+  }
+}
@@ -0,0 +1,1020 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Factory</em> of {@link Exception}s and <em>sub-classes</em>.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <p>Using {@link MessageTemplates.OneArgTemplate}:
+ *
+ * <pre>{@code
+ * ExceptionFactory.illegalArgumentOf("username", MUST_NOT_BE_NULL);
+ * }</pre>
+ *
+ * Creates a {@link IllegalArgumentException} with a {@code message} as {@code "`username` MUST NOT
+ * be `null`"}.
+ *
+ * <p><em>To provide a {@code cause}, use {@link ExceptionBuilder}.</em>
+ *
+ * @see ExceptionBuilder
+ * @see MessageTemplates
+ * @author Chrimle
+ * @since 0.1.0
+ */
+public final class ExceptionFactory {
+
+  /** The {@link StackTraceSampler} of created exceptions, or {@code null} if always sampled. */
+  private static volatile @Nullable StackTraceSampler stackTraceSampler;
+
+  /** The {@link ExceptionSink} of created exceptions, or {@code null} if there is none. */
+  private static volatile @Nullable ExceptionSink exceptionSink;
+
+  /** The {@link LocalizedTemplates} of created exceptions, or {@code null} if there are none. */
+  private static volatile @Nullable LocalizedTemplates localizedTemplates;
+
+  private ExceptionFactory() {}
+
+  /**
+   * Sets the {@link StackTraceSampler} of exceptions subsequently created by {@code
+   * illegalArgumentOf} and {@code illegalStateOf}. <em>Stackless</em> exceptions never capture a
+   * <em>stack trace</em>.
+   *
+   * @param stackTraceSampler to use. <strong>MAY</strong> be {@code null}, in which case a
+   *     <em>stack trace</em> is always captured.
+   * @see ExceptionBuilder#setStackTraceSampler(StackTraceSampler)
+   * @since 0.7.0
+   */
+  public static void setStackTraceSampler(final @Nullable StackTraceSampler stackTraceSampler) {
+    ExceptionFactory.stackTraceSampler = stackTraceSampler;
+  }
+
+  /**
+   * Sets the {@link ExceptionSink}, which receives every exception subsequently created by {@link
+   * ExceptionFactory}, {@link ExceptionBuilder} and {@link Violations}.
+   *
+   * @param exceptionSink to use. <strong>MAY</strong> be {@code null}, in which case created
+   *     exceptions are not received by any sink.
+   * @see AsyncExceptionSink
+   * @since 0.7.0
+   */
+  public static void setExceptionSink(final @Nullable ExceptionSink exceptionSink) {
+    ExceptionFactory.exceptionSink = exceptionSink;
+  }
+
+  /**
+   * Sets the {@link LocalizedTemplates} of exceptions subsequently created by {@code
+   * illegalArgumentOf} and {@code illegalStateOf} with a {@link Locale}.
+   *
+   * @param localizedTemplates to use. <strong>MAY</strong> be {@code null}, in which case the
+   *     default templates are used for every {@link Locale}.
+   * @since 0.7.0
+   */
+  public static void setLocalizedTemplates(final @Nullable LocalizedTemplates localizedTemplates) {
+    ExceptionFactory.localizedTemplates = localizedTemplates;
+  }
+
+  /**
+   * Passes the newly created {@code exception} to the {@link ExceptionSink}, if there is one.
+   *
+   * @param exception which was created.
+   * @return the {@code exception}.
+   * @param <C> {@link Exception}-class of the {@code exception}.
+   * @since 0.7.0
+   */
+  static <C extends Exception> C report(final C exception) {
+    final var sink = exceptionSink;
+    if (sink != null) {
+      sink.accept(exception);
+    }
+    return exception;
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final boolean stackless,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionBuilder.of(exceptionClass)
+        .setMessage(messageTemplate, key)
+        .setStackless(stackless)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (locale == null) {
+      throw new IllegalArgumentException("`locale` MUST NOT be `null`");
+    }
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    final var templates = localizedTemplates;
+    final var message =
+        templates == null
+            ? messageTemplate.format(key)
+            : templates.format(locale, messageTemplate, key);
+    return ExceptionBuilder.of(exceptionClass)
+        .setTemplatedMessage(message, messageTemplate)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    if (locale == null) {
+      throw new IllegalArgumentException("`locale` MUST NOT be `null`");
+    }
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    final var templates = localizedTemplates;
+    final var message =
+        templates == null
+            ? messageTemplate.format(key, value)
+            : templates.format(locale, messageTemplate, key, value);
+    return ExceptionBuilder.of(exceptionClass)
+        .setTemplatedMessage(message, messageTemplate)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final int value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionBuilder.of(exceptionClass)
+        .setMessage(messageTemplate, key, value)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final long value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionBuilder.of(exceptionClass)
+        .setMessage(messageTemplate, key, value)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final double value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionBuilder.of(exceptionClass)
+        .setMessage(messageTemplate, key, value)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  @SuppressWarnings("ConstantValue")
+  private static <C extends Exception> C exceptionOf(
+      final Class<C> exceptionClass,
+      final boolean stackless,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionBuilder.of(exceptionClass)
+        .setMessage(messageTemplate, key, value)
+        .setStackless(stackless)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalArgumentException.class, false, key, messageTemplate);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalArgumentException.class, false, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalStateException.class, false, key, messageTemplate);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.1.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalStateException.class, false, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, int)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final int value) {
+    return exceptionOf(IllegalArgumentException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, long)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final long value) {
+    return exceptionOf(IllegalArgumentException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, double)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final double value) {
+    return exceptionOf(IllegalArgumentException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, int)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final int value) {
+    return exceptionOf(IllegalStateException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, long)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final long value) {
+    return exceptionOf(IllegalStateException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate}, {@code key} and {@code value}, without converting {@code value} to an
+   * intermediate {@code String}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see MessageTemplates.TwoArgTemplate#format(String, double)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final double value) {
+    return exceptionOf(IllegalStateException.class, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code messageArgs}.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @param messageArgs to include in the {@code messageTemplate}. <strong>MUST</strong> be
+   *     exactly {@link NArgTemplate#getArgCount()} arguments.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}, or if the number
+   *     of {@code messageArgs} does not match the {@code messageTemplate}.
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final NArgTemplate messageTemplate, final @Nullable String @Nullable ... messageArgs) {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage(messageTemplate, messageArgs)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate} and {@code messageArgs}.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @param messageArgs to include in the {@code messageTemplate}. <strong>MUST</strong> be
+   *     exactly {@link NArgTemplate#getArgCount()} arguments.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}, or if the number
+   *     of {@code messageArgs} does not match the {@code messageTemplate}.
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final NArgTemplate messageTemplate, final @Nullable String @Nullable ... messageArgs) {
+    return ExceptionBuilder.of(IllegalStateException.class)
+        .setMessage(messageTemplate, messageArgs)
+        .setStackTraceSampler(stackTraceSampler)
+        .build();
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate} of the {@code locale}, and {@code key}.
+   *
+   * @param locale of the {@code messageTemplate}.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code
+   *     null}.
+   * @see #setLocalizedTemplates(LocalizedTemplates)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, null -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalArgumentException.class, locale, key, messageTemplate);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with the {@code message} derived from the
+   * {@code messageTemplate} of the {@code locale}, {@code key} and {@code value}.
+   *
+   * @param locale of the {@code messageTemplate}.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code
+   *     null}.
+   * @see #setLocalizedTemplates(LocalizedTemplates)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _, _ -> fail; _, _, null, _ -> fail; _, _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException illegalArgumentOf(
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalArgumentException.class, locale, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate} of the {@code locale}, and {@code key}.
+   *
+   * @param locale of the {@code messageTemplate}.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code
+   *     null}.
+   * @see #setLocalizedTemplates(LocalizedTemplates)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, null -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalStateException.class, locale, key, messageTemplate);
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with the {@code message} derived from the
+   * {@code messageTemplate} of the {@code locale}, {@code key} and {@code value}.
+   *
+   * @param locale of the {@code messageTemplate}.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code
+   *     null}.
+   * @see #setLocalizedTemplates(LocalizedTemplates)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _, _ -> fail; _, _, null, _ -> fail; _, _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException illegalStateOf(
+      final Locale locale,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalStateException.class, locale, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates a <em>stackless</em> {@link IllegalArgumentException} instance with the {@code message}
+   * derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>Intended for <em>expected</em> failures, where the <em>stack trace</em> is never used.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new <em>stackless</em> {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException stacklessIllegalArgumentOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalArgumentException.class, true, key, messageTemplate);
+  }
+
+  /**
+   * Creates a <em>stackless</em> {@link IllegalArgumentException} instance with the {@code message}
+   * derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>Intended for <em>expected</em> failures, where the <em>stack trace</em> is never used.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new <em>stackless</em> {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalArgumentException stacklessIllegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalArgumentException.class, true, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates a <em>stackless</em> {@link IllegalStateException} instance with the {@code message}
+   * derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>Intended for <em>expected</em> failures, where the <em>stack trace</em> is never used.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new <em>stackless</em> {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException stacklessIllegalStateOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return exceptionOf(IllegalStateException.class, true, key, messageTemplate);
+  }
+
+  /**
+   * Creates a <em>stackless</em> {@link IllegalStateException} instance with the {@code message}
+   * derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>Intended for <em>expected</em> failures, where the <em>stack trace</em> is never used.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new <em>stackless</em> {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings("Contract")
+  public static IllegalStateException stacklessIllegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    return exceptionOf(IllegalStateException.class, true, key, messageTemplate, value);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with a <em>lazily formatted</em> {@code
+   * message}, derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>The {@code message} is only formatted on the first invocation of {@link
+   * Throwable#getMessage()}, and is then memoized. Intended for exceptions which are caught and
+   * handled, without the {@code message} ever being read.
+   *
+   * <p>The exception is a {@link TemplatedException}, retaining the {@code messageTemplate} and
+   * its arguments.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static IllegalArgumentException lazyIllegalArgumentOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    ExceptionMetrics.record(IllegalArgumentException.class, messageTemplate);
+    return report(
+        new LazyMessageExceptions.LazyIllegalArgumentException(
+            LazyMessage.of(messageTemplate, key), null));
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} instance with a <em>lazily formatted</em> {@code
+   * message}, derived from the {@code messageTemplate}, {@code key} and {@code value}.
+   *
+   * <p>The {@code message} is only formatted on the first invocation of {@link
+   * Throwable#getMessage()}, and is then memoized. Intended for exceptions which are caught and
+   * handled, without the {@code message} ever being read.
+   *
+   * <p>The exception is a {@link TemplatedException}, retaining the {@code messageTemplate} and
+   * its arguments.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static IllegalArgumentException lazyIllegalArgumentOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    ExceptionMetrics.record(IllegalArgumentException.class, messageTemplate);
+    return report(
+        new LazyMessageExceptions.LazyIllegalArgumentException(
+            LazyMessage.of(messageTemplate, key, value), null));
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with a <em>lazily formatted</em> {@code
+   * message}, derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>The {@code message} is only formatted on the first invocation of {@link
+   * Throwable#getMessage()}, and is then memoized. Intended for exceptions which are caught and
+   * handled, without the {@code message} ever being read.
+   *
+   * <p>The exception is a {@link TemplatedException}, retaining the {@code messageTemplate} and
+   * its arguments.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail; _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static IllegalStateException lazyIllegalStateOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    ExceptionMetrics.record(IllegalStateException.class, messageTemplate);
+    return report(
+        new LazyMessageExceptions.LazyIllegalStateException(
+            LazyMessage.of(messageTemplate, key), null));
+  }
+
+  /**
+   * Creates an {@link IllegalStateException} instance with a <em>lazily formatted</em> {@code
+   * message}, derived from the {@code messageTemplate}, {@code key} and {@code value}.
+   *
+   * <p>The {@code message} is only formatted on the first invocation of {@link
+   * Throwable#getMessage()}, and is then memoized. Intended for exceptions which are caught and
+   * handled, without the {@code message} ever being read.
+   *
+   * <p>The exception is a {@link TemplatedException}, retaining the {@code messageTemplate} and
+   * its arguments.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static IllegalStateException lazyIllegalStateOf(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    ExceptionMetrics.record(IllegalStateException.class, messageTemplate);
+    return report(
+        new LazyMessageExceptions.LazyIllegalStateException(
+            LazyMessage.of(messageTemplate, key, value), null));
+  }
+
+  /**
+   * Returns a <em>shared</em>, <em>stackless</em> instance of the {@code exceptionClass} with the
+   * {@code message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * <p>The same instance is returned for every invocation with the same {@code exceptionClass},
+   * {@code messageTemplate} and {@code key}, making it safe to throw concurrently from any thread.
+   * <em>Shared</em> instances have no {@code cause}, and ignore both {@link
+   * Throwable#setStackTrace(StackTraceElement[])} and {@link Throwable#addSuppressed(Throwable)}.
+   * The {@code exceptionClass} <strong>MUST</strong> therefore have an accessible {@code (String,
+   * Throwable, boolean, boolean)} constructor, or be one of the {@link Exception}-classes with a
+   * <em>stackless</em> sub-class, see {@link ExceptionBuilder#setStackless(boolean)}.
+   *
+   * <p>At most {@value SharedExceptions#MAX_SIZE} instances are shared in total, after which new
+   * <em>stackless</em> instances are created instead.
+   *
+   * @param exceptionClass to instantiate.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>shared</em> {@code exceptionClass} instance.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @throws IllegalArgumentException if {@code exceptionClass} or {@code messageTemplate} is {@code
+   *     null}.
+   * @throws IllegalArgumentException if {@code exceptionClass} does not have a {@code (String,
+   *     Throwable)} constructor, or does not have a <em>stackless</em> constructor.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static <C extends Exception> C shared(
+      final Class<C> exceptionClass,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    final var exceptionConstructor = ExceptionConstructor.require(exceptionClass);
+    if (!exceptionConstructor.hasStacklessConstructor()) {
+      throw new IllegalArgumentException(
+          "`exceptionClass` does NOT have a (`String, Throwable, boolean, boolean`) constructor");
+    }
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return SharedExceptions.get(exceptionConstructor, key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>shared</em>, <em>stackless</em> {@link IllegalArgumentException} instance with
+   * the {@code message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>shared</em> {@link IllegalArgumentException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #shared(Class, String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  public static IllegalArgumentException sharedIllegalArgumentOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return shared(IllegalArgumentException.class, key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>shared</em>, <em>stackless</em> {@link IllegalStateException} instance with the
+   * {@code message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>shared</em> {@link IllegalStateException} instance.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #shared(Class, String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  public static IllegalStateException sharedIllegalStateOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return shared(IllegalStateException.class, key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Supplier}, which creates an {@link IllegalArgumentException}
+   * with the {@code message} derived from the {@code messageTemplate} and {@code key}, e.g. for
+   * {@link java.util.Optional#orElseThrow(Supplier)}.
+   *
+   * <p>The same {@link Supplier} is returned for every invocation with the same {@code
+   * messageTemplate} and {@code key}, without allocating. At most {@value
+   * ExceptionSuppliers#CACHE_SIZE} {@link Supplier}s are cached per {@code messageTemplate}, where
+   * a new {@code key} <strong>MAY</strong> evict the {@link Supplier} of another. For keys of high
+   * cardinality, such as user ids, prefer {@link
+   * #illegalArgumentFunctionOf(MessageTemplates.OneArgTemplate)}, which never allocates.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Supplier}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalArgumentOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Supplier<IllegalArgumentException> illegalArgumentSupplierOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalArgumentSupplier(key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Function}, which creates an {@link IllegalArgumentException}
+   * with the {@code message} derived from the {@code messageTemplate} and the {@code key} it is
+   * applied to.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalArgumentOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Function<@Nullable String, IllegalArgumentException> illegalArgumentFunctionOf(
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalArgumentFunction(messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Function}, which creates an {@link IllegalArgumentException}
+   * with the {@code message} derived from the {@code messageTemplate}, {@code key} and the {@code
+   * value} it is applied to.
+   *
+   * <p>The same {@link Function} is returned for every invocation with the same {@code
+   * messageTemplate} and {@code key}, without allocating. At most {@value
+   * ExceptionSuppliers#CACHE_SIZE} {@link Function}s are cached per {@code messageTemplate}, where
+   * a new {@code key} <strong>MAY</strong> evict the {@link Function} of another.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalArgumentSupplierOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Function<@Nullable String, IllegalArgumentException> illegalArgumentFunctionOf(
+      final @Nullable String key, final MessageTemplates.TwoArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalArgumentFunction(key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Supplier}, which creates an {@link IllegalStateException} with
+   * the {@code message} derived from the {@code messageTemplate} and {@code key}, e.g. for {@link
+   * java.util.Optional#orElseThrow(Supplier)}.
+   *
+   * <p>The same {@link Supplier} is returned for every invocation with the same {@code
+   * messageTemplate} and {@code key}, without allocating. At most {@value
+   * ExceptionSuppliers#CACHE_SIZE} {@link Supplier}s are cached per {@code messageTemplate}, where
+   * a new {@code key} <strong>MAY</strong> evict the {@link Supplier} of another. For keys of high
+   * cardinality, such as user ids, prefer {@link
+   * #illegalStateFunctionOf(MessageTemplates.OneArgTemplate)}, which never allocates.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Supplier}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalStateOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Supplier<IllegalStateException> illegalStateSupplierOf(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalStateSupplier(key, messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Function}, which creates an {@link IllegalStateException} with
+   * the {@code message} derived from the {@code messageTemplate} and the {@code key} it is applied
+   * to.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalStateOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Function<@Nullable String, IllegalStateException> illegalStateFunctionOf(
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalStateFunction(messageTemplate);
+  }
+
+  /**
+   * Returns a <em>cached</em> {@link Function}, which creates an {@link IllegalStateException} with
+   * the {@code message} derived from the {@code messageTemplate}, {@code key} and the {@code value}
+   * it is applied to.
+   *
+   * <p>The same {@link Function} is returned for every invocation with the same {@code
+   * messageTemplate} and {@code key}, without allocating. At most {@value
+   * ExceptionSuppliers#CACHE_SIZE} {@link Function}s are cached per {@code messageTemplate}, where
+   * a new {@code key} <strong>MAY</strong> evict the {@link Function} of another.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @see #illegalStateSupplierOf(String, MessageTemplates.OneArgTemplate)
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Function<@Nullable String, IllegalStateException> illegalStateFunctionOf(
+      final @Nullable String key, final MessageTemplates.TwoArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return ExceptionSuppliers.illegalStateFunction(key, messageTemplate);
+  }
+
+  /**
+   * Creates a new, empty, {@link Violations} collector, for aggregating many violations into a
+   * <strong>single</strong> exception.
+   *
+   * @return a new {@link Violations} instance.
+   * @since 0.7.0
+   */
+  @Contract(" -> new")
+  public static Violations violations() {
+    return new Violations();
+  }
+}
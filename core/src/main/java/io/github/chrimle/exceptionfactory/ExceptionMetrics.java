@@ -0,0 +1,205 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Optional</em> metrics of created exceptions, counted per {@link
+ * MessageTemplates.OneArgTemplate}, {@link MessageTemplates.TwoArgTemplate} and {@link
+ * Exception}-class.
+ *
+ * <p>Metrics are <strong>disabled</strong> by default, see {@link #enable()}. Counters are striped
+ * {@link LongAdder}s, indexed by the {@link Enum#ordinal()} of each template, so that counting does
+ * not contend between threads.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * ExceptionMetrics.enable();
+ * ExceptionFactory.illegalArgumentOf("username", MUST_NOT_BE_NULL);
+ * ExceptionMetrics.snapshot().oneArgTemplates().get(MUST_NOT_BE_NULL); // 1
+ * }</pre>
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class ExceptionMetrics {
+
+  /** Whether metrics are enabled. */
+  private static volatile boolean enabled;
+
+  /** Counters per {@link MessageTemplates.OneArgTemplate#ordinal()}. */
+  private static final LongAdder[] ONE_ARG_TEMPLATE_COUNTERS =
+      newCounters(MessageTemplates.OneArgTemplate.values().length);
+
+  /** Counters per {@link MessageTemplates.TwoArgTemplate#ordinal()}. */
+  private static final LongAdder[] TWO_ARG_TEMPLATE_COUNTERS =
+      newCounters(MessageTemplates.TwoArgTemplate.values().length);
+
+  /**
+   * Counters per {@link Class#getName()} of each {@link Exception}-class, for {@link #snapshot()}.
+   * Keyed by name, so that counted classes (and their {@link ClassLoader}s) remain unloadable.
+   */
+  private static final Map<String, LongAdder> EXCEPTION_CLASS_COUNTERS = new ConcurrentHashMap<>();
+
+  /** Counters per {@link Exception}-class, for counting without hashing. */
+  private static final ClassValue<LongAdder> EXCEPTION_CLASS_COUNTER =
+      new ClassValue<>() {
+        @Override
+        protected LongAdder computeValue(final Class<?> type) {
+          return EXCEPTION_CLASS_COUNTERS.computeIfAbsent(
+              type.getName(), exceptionClassName -> new LongAdder());
+        }
+      };
+
+  private ExceptionMetrics() {}
+
+  /**
+   * Enables the counting of created exceptions.
+   *
+   * @since 0.7.0
+   */
+  public static void enable() {
+    enabled = true;
+  }
+
+  /**
+   * Disables the counting of created exceptions. Existing counts are retained.
+   *
+   * @since 0.7.0
+   */
+  public static void disable() {
+    enabled = false;
+  }
+
+  /**
+   * Returns whether the counting of created exceptions is enabled.
+   *
+   * @return whether metrics are enabled.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns a {@link Snapshot} of the current counts.
+   *
+   * @return a new {@link Snapshot}.
+   * @since 0.7.0
+   */
+  @Contract(" -> new")
+  public static Snapshot snapshot() {
+    return snapshot(LongAdder::sum);
+  }
+
+  /**
+   * Returns a {@link Snapshot} of the current counts, and resets each counter to zero.
+   *
+   * <p>Exceptions created concurrently are counted in either this, or the next, {@link Snapshot}.
+   *
+   * @return a new {@link Snapshot}.
+   * @since 0.7.0
+   */
+  @Contract(" -> new")
+  public static Snapshot snapshotThenReset() {
+    return snapshot(LongAdder::sumThenReset);
+  }
+
+  /**
+   * Resets all counts to zero.
+   *
+   * @since 0.7.0
+   */
+  public static void reset() {
+    snapshotThenReset();
+  }
+
+  /**
+   * Counts the creation of an {@code exceptionClass}-instance, with an <em>optional</em> {@code
+   * messageTemplate}, if metrics are enabled.
+   *
+   * @param exceptionClass of the created exception.
+   * @param messageTemplate of the created exception. <strong>MAY</strong> be {@code null}.
+   * @since 0.7.0
+   */
+  static void record(
+      final Class<? extends Exception> exceptionClass, final @Nullable Enum<?> messageTemplate) {
+    if (!enabled) {
+      return;
+    }
+    EXCEPTION_CLASS_COUNTER.get(exceptionClass).increment();
+    if (messageTemplate instanceof MessageTemplates.OneArgTemplate) {
+      ONE_ARG_TEMPLATE_COUNTERS[messageTemplate.ordinal()].increment();
+    } else if (messageTemplate instanceof MessageTemplates.TwoArgTemplate) {
+      TWO_ARG_TEMPLATE_COUNTERS[messageTemplate.ordinal()].increment();
+    }
+  }
+
+  /**
+   * Creates a {@link Snapshot} of all counters, via the {@code sum}-function.
+   *
+   * @param sum function of each counter.
+   * @return a new {@link Snapshot}.
+   */
+  private static Snapshot snapshot(final ToLongFunction<LongAdder> sum) {
+    final var oneArgTemplates =
+        new EnumMap<MessageTemplates.OneArgTemplate, Long>(MessageTemplates.OneArgTemplate.class);
+    for (final var oneArgTemplate : MessageTemplates.OneArgTemplate.values()) {
+      oneArgTemplates.put(
+          oneArgTemplate, sum.applyAsLong(ONE_ARG_TEMPLATE_COUNTERS[oneArgTemplate.ordinal()]));
+    }
+    final var twoArgTemplates =
+        new EnumMap<MessageTemplates.TwoArgTemplate, Long>(MessageTemplates.TwoArgTemplate.class);
+    for (final var twoArgTemplate : MessageTemplates.TwoArgTemplate.values()) {
+      twoArgTemplates.put(
+          twoArgTemplate, sum.applyAsLong(TWO_ARG_TEMPLATE_COUNTERS[twoArgTemplate.ordinal()]));
+    }
+    final var exceptionClasses = new HashMap<String, Long>();
+    EXCEPTION_CLASS_COUNTERS.forEach(
+        (exceptionClassName, counter) ->
+            exceptionClasses.put(exceptionClassName, sum.applyAsLong(counter)));
+    return new Snapshot(
+        Collections.unmodifiableMap(oneArgTemplates),
+        Collections.unmodifiableMap(twoArgTemplates),
+        Collections.unmodifiableMap(exceptionClasses));
+  }
+
+  /**
+   * Creates {@code length} new counters.
+   *
+   * @param length of the array.
+   * @return a new array of counters.
+   */
+  private static LongAdder[] newCounters(final int length) {
+    final var counters = new LongAdder[length];
+    for (var i = 0; i < length; i++) {
+      counters[i] = new LongAdder();
+    }
+    return counters;
+  }
+
+  /**
+   * An immutable snapshot of {@link ExceptionMetrics}.
+   *
+   * @param oneArgTemplates counts per {@link MessageTemplates.OneArgTemplate}.
+   * @param twoArgTemplates counts per {@link MessageTemplates.TwoArgTemplate}.
+   * @param exceptionClasses counts per {@link Class#getName()} of each {@link Exception}-class,
+   *     which has been counted at least once. Classes of the same name, loaded by different {@link
+   *     ClassLoader}s, share a count.
+   * @since 0.7.0
+   * @author Chrimle
+   */
+  public record Snapshot(
+      Map<MessageTemplates.OneArgTemplate, Long> oneArgTemplates,
+      Map<MessageTemplates.TwoArgTemplate, Long> twoArgTemplates,
+      Map<String, Long> exceptionClasses) {}
+}
@@ -0,0 +1,29 @@
+package io.github.chrimle.exceptionfactory;
+
+/**
+ * Receiver of every exception created by {@link ExceptionFactory}, {@link ExceptionBuilder} and
+ * {@link Violations}, e.g. for reporting to an <em>error-tracking</em> pipeline.
+ *
+ * <p>The sink is invoked <em>synchronously</em>, on the thread creating the exception.
+ * Implementations <strong>MUST</strong> be thread-safe, <strong>SHOULD</strong> return quickly, and
+ * <strong>MUST NOT</strong> create exceptions via this library. To report without adding latency
+ * to the creating thread, use an {@link AsyncExceptionSink}.
+ *
+ * <p><em>Shared</em> exceptions are only received once, when first created.
+ *
+ * @see ExceptionFactory#setExceptionSink(ExceptionSink)
+ * @see AsyncExceptionSink
+ * @since 0.7.0
+ * @author Chrimle
+ */
+@FunctionalInterface
+public interface ExceptionSink {
+
+  /**
+   * Receives the newly created {@code exception}.
+   *
+   * @param exception which was created.
+   * @since 0.7.0
+   */
+  void accept(Exception exception);
+}
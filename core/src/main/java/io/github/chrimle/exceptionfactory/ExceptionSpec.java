@@ -0,0 +1,252 @@
+package io.github.chrimle.exceptionfactory;
+
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Immutable</em> specification of an {@link Exception}, of which only the <em>last</em>
+ * argument of its {@link MessageTemplate}, and its {@code cause}, are supplied when created.
+ *
+ * <p>The {@link Exception}-class is validated, and its constructor resolved, when the {@link
+ * ExceptionSpec} is declared. The {@link MessageTemplate} is split around its <em>last</em>
+ * argument, with any preceding {@code key} already applied, such that creating an {@link
+ * Exception} only concatenates the {@code value}. {@link ExceptionSpec}s are <em>thread-safe</em>,
+ * and are intended to be declared as {@code static final} constants.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * private static final ExceptionSpec<IllegalArgumentException> LIMIT_EXCEEDED =
+ *     ExceptionSpec.of(IllegalArgumentException.class, "limit", MUST_BE_AT_MOST)
+ *         .withStackTraceDepth(8);
+ *
+ * throw LIMIT_EXCEEDED.create("100");
+ * }</pre>
+ *
+ * @param <T> {@link Exception}-class <em>instance</em> to create.
+ * @see ExceptionBuilder
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class ExceptionSpec<T extends Exception> {
+
+  /** The resolved constructor of the {@link Exception}-class to create. */
+  private final ExceptionConstructor<T> exceptionConstructor;
+
+  /** The <em>message template</em> of the {@code message}. */
+  private final Enum<?> messageTemplate;
+
+  /** The {@code message} preceding the {@code value}. */
+  private final String prefix;
+
+  /** The {@code message} following the {@code value}. */
+  private final String suffix;
+
+  /** Whether the {@link Exception} is created <em>without</em> a <em>stack trace</em>. */
+  private final boolean stackless;
+
+  /** The maximum depth of the <em>stack trace</em>, or {@code -1} if unlimited. */
+  private final int stackTraceDepth;
+
+  /** The {@link StackTraceSampler} of the <em>stack trace</em>, or {@code null} if always. */
+  private final @Nullable StackTraceSampler stackTraceSampler;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param exceptionConstructor of the {@link Exception}-class to create.
+   * @param messageTemplate of the {@code message}.
+   * @param prefix of the {@code message}, preceding the {@code value}.
+   * @param suffix of the {@code message}, following the {@code value}.
+   * @param stackless whether to omit the <em>stack trace</em>.
+   * @param stackTraceDepth of the <em>stack trace</em>, or {@code -1} if unlimited.
+   * @param stackTraceSampler of the <em>stack trace</em>, or {@code null} if always.
+   */
+  @Contract(pure = true)
+  private ExceptionSpec(
+      final ExceptionConstructor<T> exceptionConstructor,
+      final Enum<?> messageTemplate,
+      final String prefix,
+      final String suffix,
+      final boolean stackless,
+      final int stackTraceDepth,
+      final @Nullable StackTraceSampler stackTraceSampler) {
+    this.exceptionConstructor = exceptionConstructor;
+    this.messageTemplate = messageTemplate;
+    this.prefix = prefix;
+    this.suffix = suffix;
+    this.stackless = stackless;
+    this.stackTraceDepth = stackTraceDepth;
+    this.stackTraceSampler = stackTraceSampler;
+  }
+
+  /**
+   * Creates an {@link ExceptionSpec} of the {@code exceptionClass}, with a {@code message} of the
+   * {@code messageTemplate}. The {@code key} is supplied when created.
+   *
+   * @param exceptionClass to create.
+   * @param messageTemplate of the {@code message}.
+   * @return a new {@link ExceptionSpec}.
+   * @param <C> to create.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static <C extends Exception> ExceptionSpec<C> of(
+      final Class<C> exceptionClass, final MessageTemplates.OneArgTemplate messageTemplate) {
+    final var exceptionConstructor = ExceptionConstructor.require(exceptionClass);
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    final var compiledTemplate = CompiledTemplate.compile(messageTemplate.getTemplate(), 1);
+    return new ExceptionSpec<>(
+        exceptionConstructor,
+        messageTemplate,
+        compiledTemplate.getSegment(0),
+        compiledTemplate.getSegment(1),
+        false,
+        -1,
+        null);
+  }
+
+  /**
+   * Creates an {@link ExceptionSpec} of the {@code exceptionClass}, with a {@code message} of the
+   * {@code key} and {@code messageTemplate}. The {@code value} is supplied when created.
+   *
+   * @param exceptionClass to create.
+   * @param key to be used as the first <em>template specifier</em>.
+   * @param messageTemplate of the {@code message}.
+   * @return a new {@link ExceptionSpec}.
+   * @param <C> to create.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("null, _, _ -> fail; _, _, null -> fail; _, _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static <C extends Exception> ExceptionSpec<C> of(
+      final Class<C> exceptionClass,
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate) {
+    final var exceptionConstructor = ExceptionConstructor.require(exceptionClass);
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    final var compiledTemplate = CompiledTemplate.compile(messageTemplate.getTemplate(), 2);
+    return new ExceptionSpec<>(
+        exceptionConstructor,
+        messageTemplate,
+        compiledTemplate.getSegment(0) + key + compiledTemplate.getSegment(1),
+        compiledTemplate.getSegment(2),
+        false,
+        -1,
+        null);
+  }
+
+  /**
+   * Returns a copy of this {@link ExceptionSpec}, which creates exceptions <em>without</em> a
+   * <em>stack trace</em>.
+   *
+   * @param stackless whether to omit the <em>stack trace</em>.
+   * @return a new {@link ExceptionSpec}.
+   * @see ExceptionBuilder#setStackless(boolean)
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public ExceptionSpec<T> withStackless(final boolean stackless) {
+    return new ExceptionSpec<>(
+        exceptionConstructor,
+        messageTemplate,
+        prefix,
+        suffix,
+        stackless,
+        stackTraceDepth,
+        stackTraceSampler);
+  }
+
+  /**
+   * Returns a copy of this {@link ExceptionSpec}, which creates exceptions with a <em>stack
+   * trace</em> of at most {@code maxDepth} frames.
+   *
+   * @param maxDepth of the <em>stack trace</em>. <strong>MUST NOT</strong> be negative.
+   * @return a new {@link ExceptionSpec}.
+   * @throws IllegalArgumentException if {@code maxDepth} is negative.
+   * @see ExceptionBuilder#setStackTraceDepth(int)
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public ExceptionSpec<T> withStackTraceDepth(final int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("`maxDepth` MUST NOT be negative");
+    }
+    return new ExceptionSpec<>(
+        exceptionConstructor,
+        messageTemplate,
+        prefix,
+        suffix,
+        stackless,
+        maxDepth,
+        stackTraceSampler);
+  }
+
+  /**
+   * Returns a copy of this {@link ExceptionSpec}, which creates exceptions with a <em>stack
+   * trace</em> only if sampled by the {@code stackTraceSampler}.
+   *
+   * @param stackTraceSampler to use. <strong>MAY</strong> be {@code null}, in which case a
+   *     <em>stack trace</em> is always captured.
+   * @return a new {@link ExceptionSpec}.
+   * @see ExceptionBuilder#setStackTraceSampler(StackTraceSampler)
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public ExceptionSpec<T> withStackTraceSampler(
+      final @Nullable StackTraceSampler stackTraceSampler) {
+    return new ExceptionSpec<>(
+        exceptionConstructor,
+        messageTemplate,
+        prefix,
+        suffix,
+        stackless,
+        stackTraceDepth,
+        stackTraceSampler);
+  }
+
+  /**
+   * Creates a {@link T}, with the {@code value} as the <em>last</em> argument of the {@code
+   * message}.
+   *
+   * @param value to be used as the last <em>template specifier</em>.
+   * @return the new {@link T} instance.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public T create(final @Nullable String value) {
+    return create(value, null);
+  }
+
+  /**
+   * Creates a {@link T}, with the {@code value} as the <em>last</em> argument of the {@code
+   * message}, and the {@code cause}.
+   *
+   * @param value to be used as the last <em>template specifier</em>.
+   * @param cause of the exception. <strong>MAY</strong> be {@code null}.
+   * @return the new {@link T} instance.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  public T create(final @Nullable String value, final @Nullable Throwable cause) {
+    return ExceptionBuilder.instantiate(
+        exceptionConstructor,
+        prefix + value + suffix,
+        messageTemplate,
+        cause,
+        stackless,
+        stackTraceDepth,
+        stackTraceSampler);
+  }
+}
@@ -0,0 +1,240 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Registry of <em>cached</em> {@link Supplier}s and {@link Function}s of exceptions, per {@link
+ * MessageTemplate} and {@code key}.
+ *
+ * <p>Lookups are performed via an array indexed by the ordinal of the template, followed by a
+ * lookup of the {@code key} in the <em>direct-mapped</em> {@link Cache} of the template, neither of
+ * which allocates nor synchronizes. Each {@link Cache} holds at most {@link #CACHE_SIZE} instances,
+ * where an instance of a new {@code key} evicts the instance of any {@code key} mapped to the same
+ * entry. {@link Function}s of a {@link MessageTemplates.OneArgTemplate} take the {@code key} as
+ * their argument, and are therefore cached per template only.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class ExceptionSuppliers {
+
+  /** The maximum number of <em>cached</em> instances per template. A power of two. */
+  static final int CACHE_SIZE = 64;
+
+  private static final Cache<Supplier<IllegalArgumentException>>[] ILLEGAL_ARGUMENT_SUPPLIERS =
+      caches(MessageTemplates.OneArgTemplate.values().length);
+  private static final Cache<Supplier<IllegalStateException>>[] ILLEGAL_STATE_SUPPLIERS =
+      caches(MessageTemplates.OneArgTemplate.values().length);
+  private static final Cache<Function<@Nullable String, IllegalArgumentException>>[]
+      ILLEGAL_ARGUMENT_FUNCTIONS = caches(MessageTemplates.TwoArgTemplate.values().length);
+  private static final Cache<Function<@Nullable String, IllegalStateException>>[]
+      ILLEGAL_STATE_FUNCTIONS = caches(MessageTemplates.TwoArgTemplate.values().length);
+
+  private static final Function<@Nullable String, IllegalArgumentException>[]
+      ILLEGAL_ARGUMENT_KEY_FUNCTIONS = illegalArgumentKeyFunctions();
+  private static final Function<@Nullable String, IllegalStateException>[]
+      ILLEGAL_STATE_KEY_FUNCTIONS = illegalStateKeyFunctions();
+
+  private ExceptionSuppliers() {}
+
+  /**
+   * Returns the <em>cached</em> {@link Supplier} of {@link IllegalArgumentException}s, with the
+   * {@code message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Supplier}.
+   * @since 0.7.0
+   */
+  static Supplier<IllegalArgumentException> illegalArgumentSupplier(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    final var cache = ILLEGAL_ARGUMENT_SUPPLIERS[messageTemplate.ordinal()];
+    // A `null` key formats identically to "null".
+    final var cacheKey = String.valueOf(key);
+    final var supplier = cache.get(cacheKey);
+    if (supplier != null) {
+      return supplier;
+    }
+    return cache.put(cacheKey, () -> ExceptionFactory.illegalArgumentOf(key, messageTemplate));
+  }
+
+  /**
+   * Returns the <em>cached</em> {@link Supplier} of {@link IllegalStateException}s, with the {@code
+   * message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Supplier}.
+   * @since 0.7.0
+   */
+  static Supplier<IllegalStateException> illegalStateSupplier(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    final var cache = ILLEGAL_STATE_SUPPLIERS[messageTemplate.ordinal()];
+    final var cacheKey = String.valueOf(key);
+    final var supplier = cache.get(cacheKey);
+    if (supplier != null) {
+      return supplier;
+    }
+    return cache.put(cacheKey, () -> ExceptionFactory.illegalStateOf(key, messageTemplate));
+  }
+
+  /**
+   * Returns the <em>cached</em> {@link Function} of a {@code key} to an {@link
+   * IllegalArgumentException}, with the {@code message} derived from the {@code messageTemplate}.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @since 0.7.0
+   */
+  static Function<@Nullable String, IllegalArgumentException> illegalArgumentFunction(
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    return ILLEGAL_ARGUMENT_KEY_FUNCTIONS[messageTemplate.ordinal()];
+  }
+
+  /**
+   * Returns the <em>cached</em> {@link Function} of a {@code key} to an {@link
+   * IllegalStateException}, with the {@code message} derived from the {@code messageTemplate}.
+   *
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @since 0.7.0
+   */
+  static Function<@Nullable String, IllegalStateException> illegalStateFunction(
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    return ILLEGAL_STATE_KEY_FUNCTIONS[messageTemplate.ordinal()];
+  }
+
+  /**
+   * Returns the <em>cached</em> {@link Function} of a {@code value} to an {@link
+   * IllegalArgumentException}, with the {@code message} derived from the {@code messageTemplate}
+   * and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @since 0.7.0
+   */
+  static Function<@Nullable String, IllegalArgumentException> illegalArgumentFunction(
+      final @Nullable String key, final MessageTemplates.TwoArgTemplate messageTemplate) {
+    final var cache = ILLEGAL_ARGUMENT_FUNCTIONS[messageTemplate.ordinal()];
+    final var cacheKey = String.valueOf(key);
+    final var function = cache.get(cacheKey);
+    if (function != null) {
+      return function;
+    }
+    return cache.put(
+        cacheKey, value -> ExceptionFactory.illegalArgumentOf(key, messageTemplate, value));
+  }
+
+  /**
+   * Returns the <em>cached</em> {@link Function} of a {@code value} to an {@link
+   * IllegalStateException}, with the {@code message} derived from the {@code messageTemplate} and
+   * {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>cached</em> {@link Function}.
+   * @since 0.7.0
+   */
+  static Function<@Nullable String, IllegalStateException> illegalStateFunction(
+      final @Nullable String key, final MessageTemplates.TwoArgTemplate messageTemplate) {
+    final var cache = ILLEGAL_STATE_FUNCTIONS[messageTemplate.ordinal()];
+    final var cacheKey = String.valueOf(key);
+    final var function = cache.get(cacheKey);
+    if (function != null) {
+      return function;
+    }
+    return cache.put(
+        cacheKey, value -> ExceptionFactory.illegalStateOf(key, messageTemplate, value));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S> Cache<S>[] caches(final int length) {
+    final var caches = (Cache<S>[]) new Cache<?>[length];
+    for (var i = 0; i < length; i++) {
+      caches[i] = new Cache<>();
+    }
+    return caches;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<@Nullable String, IllegalArgumentException>[]
+      illegalArgumentKeyFunctions() {
+    final var messageTemplates = MessageTemplates.OneArgTemplate.values();
+    final var functions =
+        (Function<@Nullable String, IllegalArgumentException>[])
+            new Function<?, ?>[messageTemplates.length];
+    for (final var messageTemplate : messageTemplates) {
+      functions[messageTemplate.ordinal()] =
+          key -> ExceptionFactory.illegalArgumentOf(key, messageTemplate);
+    }
+    return functions;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<@Nullable String, IllegalStateException>[] illegalStateKeyFunctions() {
+    final var messageTemplates = MessageTemplates.OneArgTemplate.values();
+    final var functions =
+        (Function<@Nullable String, IllegalStateException>[])
+            new Function<?, ?>[messageTemplates.length];
+    for (final var messageTemplate : messageTemplates) {
+      functions[messageTemplate.ordinal()] =
+          key -> ExceptionFactory.illegalStateOf(key, messageTemplate);
+    }
+    return functions;
+  }
+
+  /**
+   * <em>Direct-mapped</em> cache of instances per {@code key}, holding at most {@link #CACHE_SIZE}
+   * instances. Entries are immutable, and therefore safely published without synchronization.
+   * Under contention, an instance <strong>MAY</strong> be evicted early.
+   *
+   * @param <S> type of the cached instances.
+   */
+  private static final class Cache<S> {
+
+    @SuppressWarnings("unchecked")
+    private final @Nullable Entry<S>[] entries = (Entry<S>[]) new Entry<?>[CACHE_SIZE];
+
+    /**
+     * Returns the cached instance of the {@code key}.
+     *
+     * @param key of the instance.
+     * @return the cached instance, or {@code null} if not cached.
+     */
+    private @Nullable S get(final String key) {
+      final var entry = entries[indexOf(key)];
+      return entry != null && entry.key.equals(key) ? entry.instance : null;
+    }
+
+    /**
+     * Caches the {@code instance} of the {@code key}, evicting any instance in its entry.
+     *
+     * @param key of the {@code instance}.
+     * @param instance to cache.
+     * @return the {@code instance}.
+     */
+    private S put(final String key, final S instance) {
+      entries[indexOf(key)] = new Entry<>(key, instance);
+      return instance;
+    }
+
+    @Contract(pure = true)
+    private static int indexOf(final String key) {
+      final var hash = key.hashCode();
+      return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    }
+  }
+
+  /**
+   * An immutable cache entry.
+   *
+   * @param key of the {@code instance}.
+   * @param instance which is cached.
+   * @param <S> type of the {@code instance}.
+   */
+  private record Entry<S>(String key, S instance) {}
+}
@@ -0,0 +1,53 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link Exception}-class, for which the <em>exception-factory-processor</em> generates a
+ * <em>reflection-free</em> factory-class.
+ *
+ * <p>The generated factory-class is named {@code <SimpleName>Factory}, in the same package as the
+ * annotated class, and has <em>template-typed</em> factory-methods like {@link ExceptionFactory}.
+ * Each factory-method invokes the {@code (String, Throwable)} constructor of the annotated class
+ * <em>directly</em>, rather than resolving it reflectively as {@link ExceptionBuilder#of(Class)}
+ * does.
+ *
+ * <p>The annotated class <strong>MUST</strong> be a non-{@code abstract}, top-level or {@code
+ * static} nested sub-class of {@link Exception}, with a non-{@code private} {@code (String,
+ * Throwable)} constructor. Otherwise, compilation fails.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * @GenerateFactory
+ * public class MyException extends Exception {
+ *   public MyException(String message, Throwable cause) {
+ *     super(message, cause);
+ *   }
+ * }
+ *
+ * throw MyExceptionFactory.of("username", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL);
+ * }</pre>
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateFactory {
+
+  /**
+   * Simple name of the generated factory-class. Defaults to {@code <SimpleName>Factory}, where
+   * {@code <SimpleName>} is the simple name of the annotated class, prefixed by the simple names of
+   * its enclosing classes, if any.
+   *
+   * @return the simple name of the generated factory-class.
+   * @since 0.7.0
+   */
+  String name() default "";
+}
@@ -0,0 +1,139 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A <em>lazily formatted</em> {@code message}, consisting of a <em>message template</em> and its
+ * arguments.
+ *
+ * <p>The {@code message} is formatted on the first invocation of {@link #toString()}, and is
+ * memoized for subsequent invocations. Concurrent invocations <strong>MAY</strong> format the
+ * {@code message} more than once, but always to an equal {@code String}.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class LazyMessage implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  /** The {@link MessageTemplates.OneArgTemplate} or {@link MessageTemplates.TwoArgTemplate}. */
+  private final Enum<?> messageTemplate;
+
+  /** The first argument of the {@link #messageTemplate}. */
+  private final @Nullable String argOne;
+
+  /** The second argument of the {@link #messageTemplate}, if any. */
+  private final @Nullable String argTwo;
+
+  /** The memoized {@code message}, or {@code null} if not yet formatted. */
+  private @Nullable String message;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param messageTemplate of the {@code message}.
+   * @param argOne of the {@code messageTemplate}.
+   * @param argTwo of the {@code messageTemplate}.
+   */
+  @Contract(pure = true)
+  private LazyMessage(
+      final Enum<?> messageTemplate,
+      final @Nullable String argOne,
+      final @Nullable String argTwo) {
+    this.messageTemplate = messageTemplate;
+    this.argOne = argOne;
+    this.argTwo = argTwo;
+  }
+
+  /**
+   * Creates a {@link LazyMessage} of the {@code messageTemplate} and {@code arg}.
+   *
+   * @param messageTemplate of the {@code message}.
+   * @param arg of the {@code messageTemplate}.
+   * @return a new {@link LazyMessage}.
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> new")
+  static LazyMessage of(
+      final MessageTemplates.OneArgTemplate messageTemplate, final @Nullable String arg) {
+    return new LazyMessage(messageTemplate, arg, null);
+  }
+
+  /**
+   * Creates a {@link LazyMessage} of the {@code messageTemplate}, {@code argOne} and {@code
+   * argTwo}.
+   *
+   * @param messageTemplate of the {@code message}.
+   * @param argOne of the {@code messageTemplate}.
+   * @param argTwo of the {@code messageTemplate}.
+   * @return a new {@link LazyMessage}.
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> new")
+  static LazyMessage of(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String argOne,
+      final @Nullable String argTwo) {
+    return new LazyMessage(messageTemplate, argOne, argTwo);
+  }
+
+  /**
+   * Returns the {@link MessageTemplate} of the {@code message}.
+   *
+   * @return the {@link MessageTemplate}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  MessageTemplate getMessageTemplate() {
+    return (MessageTemplate) messageTemplate;
+  }
+
+  /**
+   * Returns the arguments of the {@link #getMessageTemplate()}.
+   *
+   * @return an unmodifiable list of the arguments.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  List<@Nullable String> getArgs() {
+    if (messageTemplate instanceof MessageTemplates.OneArgTemplate) {
+      return Collections.singletonList(argOne);
+    }
+    return Collections.unmodifiableList(Arrays.asList(argOne, argTwo));
+  }
+
+  /**
+   * Returns the {@code message}, formatting it if not yet formatted.
+   *
+   * @return the formatted {@code message}.
+   */
+  @Override
+  public String toString() {
+    var formattedMessage = message;
+    if (formattedMessage == null) {
+      formattedMessage = format();
+      message = formattedMessage;
+    }
+    return formattedMessage;
+  }
+
+  /**
+   * Formats the {@link #messageTemplate} with its arguments.
+   *
+   * @return the formatted {@code message}.
+   */
+  @Contract(pure = true)
+  private String format() {
+    if (messageTemplate instanceof MessageTemplates.OneArgTemplate oneArgTemplate) {
+      return oneArgTemplate.format(argOne);
+    }
+    return ((MessageTemplates.TwoArgTemplate) messageTemplate).format(argOne, argTwo);
+  }
+}
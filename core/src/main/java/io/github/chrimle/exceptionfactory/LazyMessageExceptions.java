@@ -0,0 +1,92 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.io.Serial;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sub-classes of common {@link Exception}-classes, with a <em>lazily formatted</em> {@code
+ * message}. Being {@link TemplatedException}s, they retain the {@link MessageTemplate} and
+ * arguments of the {@code message}.
+ *
+ * <p>The {@code message} is only formatted on the first invocation of {@link
+ * Throwable#getMessage()}, including indirectly via {@link Throwable#toString()}. These sub-classes
+ * are otherwise indistinguishable from their super-class, as {@link Throwable#toString()} reports
+ * the name of the super-class.
+ *
+ * @see LazyMessage
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class LazyMessageExceptions {
+
+  private LazyMessageExceptions() {}
+
+  /** {@link IllegalArgumentException} with a <em>lazily formatted</em> {@code message}. */
+  static final class LazyIllegalArgumentException extends IllegalArgumentException
+      implements TemplatedException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    /** The <em>lazily formatted</em> {@code message}. */
+    private final LazyMessage lazyMessage;
+
+    LazyIllegalArgumentException(final LazyMessage lazyMessage, final @Nullable Throwable cause) {
+      super(null, cause);
+      this.lazyMessage = lazyMessage;
+    }
+
+    @Override
+    public String getMessage() {
+      return lazyMessage.toString();
+    }
+
+    @Override
+    public MessageTemplate getMessageTemplate() {
+      return lazyMessage.getMessageTemplate();
+    }
+
+    @Override
+    public List<@Nullable String> getMessageArgs() {
+      return lazyMessage.getArgs();
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+
+  /** {@link IllegalStateException} with a <em>lazily formatted</em> {@code message}. */
+  static final class LazyIllegalStateException extends IllegalStateException
+      implements TemplatedException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    /** The <em>lazily formatted</em> {@code message}. */
+    private final LazyMessage lazyMessage;
+
+    LazyIllegalStateException(final LazyMessage lazyMessage, final @Nullable Throwable cause) {
+      super(null, cause);
+      this.lazyMessage = lazyMessage;
+    }
+
+    @Override
+    public String getMessage() {
+      return lazyMessage.toString();
+    }
+
+    @Override
+    public MessageTemplate getMessageTemplate() {
+      return lazyMessage.getMessageTemplate();
+    }
+
+    @Override
+    public List<@Nullable String> getMessageArgs() {
+      return lazyMessage.getArgs();
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Localized</em> versions of {@link MessageTemplates.OneArgTemplate} and {@link
+ * MessageTemplates.TwoArgTemplate}, loaded from a {@link ResourceBundle} per {@link Locale}.
+ *
+ * <p>Each {@link ResourceBundle} maps the {@link MessageTemplate#name() name} of a template to its
+ * localized {@code template}, which is parsed as an {@link NArgTemplate}. Localized templates
+ * <strong>MAY</strong> therefore reorder the arguments via {@code %N$s} <em>format
+ * specifiers</em>, but <strong>MUST</strong> refer to the same number of arguments as the default
+ * {@code template}. Templates which are missing from the {@link ResourceBundle}, or are invalid,
+ * fall back to their default {@code template}.
+ *
+ * <p>The templates of a {@link Locale} are loaded <em>lazily</em>, when first formatted, and
+ * compiled <em>once</em> into arrays indexed by the ordinal of each template. Formatting a
+ * localized message is a {@link ConcurrentHashMap}-lookup of the {@link Locale}, followed by an
+ * array index, rather than a {@link ResourceBundle}-lookup. The templates of at most {@link
+ * #MAX_SIZE} {@link Locale}s are held, after which the templates of the {@link Locale} of the
+ * loaded {@link ResourceBundle} are used, if held, or are otherwise loaded on every invocation.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * ExceptionFactory.setLocalizedTemplates(
+ *     LocalizedTemplates.of(locale -> ResourceBundle.getBundle("com.example.Messages", locale)));
+ *
+ * throw ExceptionFactory.illegalArgumentOf(Locale.GERMAN, "username", MUST_NOT_BE_NULL);
+ * }</pre>
+ *
+ * @see ExceptionFactory#setLocalizedTemplates(LocalizedTemplates)
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class LocalizedTemplates {
+
+  /** The maximum number of {@link Locale}s of which the templates are held. */
+  static final int MAX_SIZE = 256;
+
+  /** The default templates, of every {@link Locale} without a {@link ResourceBundle}. */
+  private static final Table DEFAULT_TABLE =
+      new Table(
+          defaultTemplates(MessageTemplates.OneArgTemplate.values()),
+          defaultTemplates(MessageTemplates.TwoArgTemplate.values()));
+
+  /** Loader of the {@link ResourceBundle} of a {@link Locale}. */
+  private final Function<Locale, ResourceBundle> bundleLoader;
+
+  /** The compiled templates, per {@link Locale}. */
+  private final ConcurrentHashMap<Locale, Table> tables = new ConcurrentHashMap<>();
+
+  /** The number of {@link Locale}s of which the templates are held. */
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param bundleLoader of the {@link ResourceBundle} of a {@link Locale}.
+   */
+  @Contract(pure = true)
+  private LocalizedTemplates(final Function<Locale, ResourceBundle> bundleLoader) {
+    this.bundleLoader = bundleLoader;
+  }
+
+  /**
+   * Creates a {@link LocalizedTemplates} instance, loading the {@link ResourceBundle} of each
+   * {@link Locale} via the {@code bundleLoader}. The {@code bundleLoader} is invoked once per
+   * {@link Locale}, and <strong>MAY</strong> throw a {@link MissingResourceException}, in which
+   * case the default templates are used for that {@link Locale}.
+   *
+   * @param bundleLoader of the {@link ResourceBundle} of a {@link Locale}, e.g. {@code locale ->
+   *     ResourceBundle.getBundle(baseName, locale)}.
+   * @return a new {@link LocalizedTemplates} instance.
+   * @throws IllegalArgumentException if {@code bundleLoader} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("null -> fail; _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static LocalizedTemplates of(final Function<Locale, ResourceBundle> bundleLoader) {
+    if (bundleLoader == null) {
+      throw new IllegalArgumentException("`bundleLoader` MUST NOT be `null`");
+    }
+    return new LocalizedTemplates(bundleLoader);
+  }
+
+  /**
+   * Creates a <em>formatted</em> {@code String} from the {@code template} of the {@code locale} and
+   * {@code arg}.
+   *
+   * @param locale of the {@code template}.
+   * @param messageTemplate to format.
+   * @param arg to be used as a <em>template specifier</em>.
+   * @return the formatted String.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  @SuppressWarnings("ConstantValue")
+  public String format(
+      final Locale locale,
+      final MessageTemplates.OneArgTemplate messageTemplate,
+      final @Nullable String arg) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return tableOf(locale).oneArgTemplates()[messageTemplate.ordinal()].format(arg);
+  }
+
+  /**
+   * Creates a <em>formatted</em> {@code String} from the {@code template} of the {@code locale},
+   * {@code argOne} and {@code argTwo}.
+   *
+   * @param locale of the {@code template}.
+   * @param messageTemplate to format.
+   * @param argOne to be used as the first <em>template specifier</em>.
+   * @param argTwo to be used as the second <em>template specifier</em>.
+   * @return the formatted String.
+   * @throws IllegalArgumentException if {@code locale} or {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  @SuppressWarnings("ConstantValue")
+  public String format(
+      final Locale locale,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String argOne,
+      final @Nullable String argTwo) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return tableOf(locale).twoArgTemplates()[messageTemplate.ordinal()].format(argOne, argTwo);
+  }
+
+  /**
+   * Returns the compiled templates of the {@code locale}, loading them if not yet held.
+   *
+   * @param locale of the templates.
+   * @return the compiled templates.
+   */
+  @SuppressWarnings("ConstantValue")
+  private Table tableOf(final Locale locale) {
+    if (locale == null) {
+      throw new IllegalArgumentException("`locale` MUST NOT be `null`");
+    }
+    final var table = tables.get(locale);
+    if (table != null) {
+      return table;
+    }
+    final var loadedTable = load(locale);
+    if (size.getAndIncrement() >= MAX_SIZE) {
+      size.decrementAndGet();
+      return loadedTable;
+    }
+    final var previousTable = tables.putIfAbsent(locale, loadedTable);
+    if (previousTable != null) {
+      size.decrementAndGet();
+      return previousTable;
+    }
+    return loadedTable;
+  }
+
+  /**
+   * Loads and compiles the templates of the {@code locale}. If the templates of the {@link Locale}
+   * of the loaded {@link ResourceBundle} are already held, those are returned instead.
+   *
+   * @param locale of the templates.
+   * @return the compiled templates.
+   */
+  private Table load(final Locale locale) {
+    final ResourceBundle bundle;
+    try {
+      bundle = bundleLoader.apply(locale);
+    } catch (MissingResourceException e) {
+      return DEFAULT_TABLE;
+    }
+    if (bundle == null) {
+      return DEFAULT_TABLE;
+    }
+    final @Nullable Locale bundleLocale = bundle.getLocale();
+    if (bundleLocale != null) {
+      final var bundleTable = tables.get(bundleLocale);
+      if (bundleTable != null) {
+        return bundleTable;
+      }
+    }
+    final var oneArgTemplates = DEFAULT_TABLE.oneArgTemplates().clone();
+    for (final var messageTemplate : MessageTemplates.OneArgTemplate.values()) {
+      oneArgTemplates[messageTemplate.ordinal()] =
+          compile(bundle, messageTemplate, oneArgTemplates[messageTemplate.ordinal()]);
+    }
+    final var twoArgTemplates = DEFAULT_TABLE.twoArgTemplates().clone();
+    for (final var messageTemplate : MessageTemplates.TwoArgTemplate.values()) {
+      twoArgTemplates[messageTemplate.ordinal()] =
+          compile(bundle, messageTemplate, twoArgTemplates[messageTemplate.ordinal()]);
+    }
+    return new Table(oneArgTemplates, twoArgTemplates);
+  }
+
+  /**
+   * Compiles the localized {@code template} of the {@code messageTemplate} in the {@code bundle}.
+   *
+   * @param bundle of the localized templates.
+   * @param messageTemplate to compile the localized {@code template} of.
+   * @param defaultTemplate of the {@code messageTemplate}.
+   * @return the compiled localized {@code template}, or the {@code defaultTemplate} if it is
+   *     missing, or invalid.
+   */
+  private static NArgTemplate compile(
+      final ResourceBundle bundle,
+      final MessageTemplate messageTemplate,
+      final NArgTemplate defaultTemplate) {
+    if (!bundle.containsKey(messageTemplate.name())) {
+      return defaultTemplate;
+    }
+    final NArgTemplate template;
+    try {
+      template = NArgTemplate.of(bundle.getString(messageTemplate.name()));
+    } catch (IllegalArgumentException | ClassCastException e) {
+      return defaultTemplate;
+    }
+    return template.getArgCount() == messageTemplate.getArgCount() ? template : defaultTemplate;
+  }
+
+  private static NArgTemplate[] defaultTemplates(final MessageTemplate[] messageTemplates) {
+    final var templates = new NArgTemplate[messageTemplates.length];
+    for (var i = 0; i < messageTemplates.length; i++) {
+      templates[i] = NArgTemplate.of(messageTemplates[i].getTemplate());
+    }
+    return templates;
+  }
+
+  /**
+   * The compiled templates of a {@link Locale}, indexed by the ordinal of each template.
+   *
+   * @param oneArgTemplates indexed by the ordinal of each {@link MessageTemplates.OneArgTemplate}.
+   * @param twoArgTemplates indexed by the ordinal of each {@link MessageTemplates.TwoArgTemplate}.
+   */
+  private record Table(NArgTemplate[] oneArgTemplates, NArgTemplate[] twoArgTemplates) {}
+}
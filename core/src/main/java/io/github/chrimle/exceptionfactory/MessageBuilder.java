@@ -0,0 +1,302 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NEGATIVE;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Builder of <em>message strings</em>.
+ *
+ * <p>Words are appended directly into a single buffer, separated by a space. Primitives are
+ * appended without boxing.
+ *
+ * @since 0.4.0
+ */
+public final class MessageBuilder {
+
+  /** Default capacity of the buffer, in {@code char}s. */
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private static final char SEPARATOR = ' ';
+  private static final char CODE_QUOTE = '`';
+
+  private final StringBuilder buffer;
+
+  /** Whether any word has been added, which is not implied by a non-empty {@link #buffer}. */
+  private boolean hasWords;
+
+  private MessageBuilder(final int capacity) {
+    this.buffer = new StringBuilder(capacity);
+  }
+
+  /**
+   * Factory method for instantiating {@link MessageBuilder}.
+   *
+   * @return a new instance.
+   * @since 0.4.0
+   */
+  @Contract(" -> new")
+  public static MessageBuilder newMessageBuilder() {
+    return new MessageBuilder(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Factory method for instantiating {@link MessageBuilder}, with an initial {@code capacity} of
+   * the message.
+   *
+   * @param capacity of the message, in {@code char}s.
+   * @return a new instance.
+   * @throws IllegalArgumentException if {@code capacity} is negative.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  public static MessageBuilder newMessageBuilder(final int capacity) {
+    if (capacity < 0) {
+      throw ExceptionFactory.illegalArgumentOf("capacity", MUST_NOT_BE_NEGATIVE);
+    }
+    return new MessageBuilder(capacity);
+  }
+
+  /**
+   * Adds a <em>format specifier</em>, based on the {@code formatClass}, to this builder.
+   *
+   * @param formatClass to format.
+   * @return this builder.
+   * @throws IllegalArgumentException if {@code formatClass} is {@code null}.
+   * @since 0.4.0
+   */
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public MessageBuilder addFormatSpecifier(final Class<?> formatClass) {
+    if (formatClass == null) {
+      throw ExceptionFactory.illegalArgumentOf("formatClass", MUST_NOT_BE_NULL);
+    }
+    if (formatClass == Integer.class) {
+      return addCodeQuote("%d");
+    }
+    if (formatClass == Float.class) {
+      return addCodeQuote("%f");
+    }
+    return addCodeQuote("%s");
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code object}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param object to quote and add.
+   * @return this builder.
+   * @throws IllegalArgumentException if {@code object} is {@code null}.
+   * @since 0.4.0
+   */
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public MessageBuilder addCodeQuote(final Object object) {
+    if (object == null) {
+      throw ExceptionFactory.illegalArgumentOf("object", MUST_NOT_BE_NULL);
+    }
+    nextWord().append(CODE_QUOTE).append(object).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code object}, via {@link Object#toString()}, to
+   * this builder.
+   *
+   * @param object to add.
+   * @throws IllegalArgumentException if {@code object} is {@code null}.
+   * @return this builder.
+   * @since 0.4.0
+   */
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public MessageBuilder add(final Object object) {
+    if (object == null) {
+      throw ExceptionFactory.illegalArgumentOf("object", MUST_NOT_BE_NULL);
+    }
+    nextWord().append(object.toString());
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final boolean value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final char value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final int value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final long value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final float value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>code quoted string representation</em> of the {@code value}, within {@code
+   * ``}-quotes, to this builder.
+   *
+   * @param value to quote and add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder addCodeQuote(final double value) {
+    nextWord().append(CODE_QUOTE).append(value).append(CODE_QUOTE);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final boolean value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final char value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final int value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final long value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final float value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Adds a <em>string representation</em> of the {@code value} to this builder.
+   *
+   * @param value to add.
+   * @return this builder.
+   * @since 0.7.0
+   */
+  @Contract("_ -> this")
+  public MessageBuilder add(final double value) {
+    nextWord().append(value);
+    return this;
+  }
+
+  /**
+   * Prepares the {@link #buffer} for the next word, by appending a separator if needed.
+   *
+   * @return the {@link #buffer}.
+   */
+  private StringBuilder nextWord() {
+    if (hasWords) {
+      buffer.append(SEPARATOR);
+    }
+    hasWords = true;
+    return buffer;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return buffer.toString();
+  }
+}
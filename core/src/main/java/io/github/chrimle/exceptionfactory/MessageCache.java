@@ -0,0 +1,236 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Optional</em>, bounded cache of formatted messages, per {@link
+ * MessageTemplates.OneArgTemplate} or {@link MessageTemplates.TwoArgTemplate}, and their arguments.
+ *
+ * <p>The cache is <strong>disabled</strong> by default, see {@link #enable(int)}. When enabled,
+ * repeatedly formatting the same template with equal arguments returns the <em>same</em> {@code
+ * String} instance, as long as it has not been evicted.
+ *
+ * <p>The cache is <em>2-way set-associative</em>: each combination of template and arguments maps
+ * to a set of two entries, which are evicted in <em>least-recently-used</em> order. Lookups and
+ * insertions are lock-free. Under contention, entries <strong>MAY</strong> be evicted early, but a
+ * correctly formatted message is always returned.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class MessageCache {
+
+  /** The enabled cache, or {@code null} if disabled. */
+  private static volatile @Nullable MessageCache messageCache;
+
+  /** The cached entries, where each set occupies two adjacent indices. */
+  private final @Nullable Entry[] entries;
+
+  /** Mask of the index of the first entry of a set. */
+  private final int mask;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param capacity of the cache. <strong>MUST</strong> be a power of two, of at least {@code 2}.
+   */
+  @Contract(pure = true)
+  private MessageCache(final int capacity) {
+    this.entries = new Entry[capacity];
+    this.mask = capacity - 2;
+  }
+
+  /**
+   * Enables the cache, discarding any previously cached messages.
+   *
+   * <p>The cache holds up to {@code maximumSize} messages, rounded up to the nearest power of two,
+   * of at least {@code 2} and at most {@code 2^30}. For example, {@code enable(1)} holds up to
+   * {@code 2} messages, and {@code enable(100)} up to {@code 128}.
+   *
+   * @param maximumSize of the cache. <strong>MUST</strong> be positive.
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+   * @since 0.7.0
+   */
+  public static void enable(final int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("`maximumSize` MUST be positive");
+    }
+    final var capacity =
+        Math.max(2, Integer.highestOneBit(Math.min(maximumSize - 1, 1 << 29)) << 1);
+    messageCache = new MessageCache(capacity);
+  }
+
+  /**
+   * Disables the cache, discarding all cached messages.
+   *
+   * @since 0.7.0
+   */
+  public static void disable() {
+    messageCache = null;
+  }
+
+  /**
+   * Returns whether the cache is enabled.
+   *
+   * @return whether the cache is enabled.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public static boolean isEnabled() {
+    return messageCache != null;
+  }
+
+  /**
+   * Returns the enabled cache.
+   *
+   * @return the cache, or {@code null} if disabled.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  static @Nullable MessageCache get() {
+    return messageCache;
+  }
+
+  /**
+   * Returns the cached message of the {@code messageTemplate} and {@code arg}, formatting it if
+   * not cached.
+   *
+   * @param messageTemplate of the message.
+   * @param compiledTemplate of the {@code messageTemplate}.
+   * @param arg of the {@code messageTemplate}.
+   * @return the formatted message.
+   * @since 0.7.0
+   */
+  String format(
+      final MessageTemplates.OneArgTemplate messageTemplate,
+      final CompiledTemplate compiledTemplate,
+      final @Nullable String arg) {
+    final var index = indexOf(messageTemplate, arg, null);
+    final var message = lookup(index, messageTemplate, arg, null);
+    if (message != null) {
+      return message;
+    }
+    return insert(index, new Entry(messageTemplate, arg, null, compiledTemplate.format(arg)));
+  }
+
+  /**
+   * Returns the cached message of the {@code messageTemplate}, {@code argOne} and {@code argTwo},
+   * formatting it if not cached.
+   *
+   * @param messageTemplate of the message.
+   * @param compiledTemplate of the {@code messageTemplate}.
+   * @param argOne of the {@code messageTemplate}.
+   * @param argTwo of the {@code messageTemplate}.
+   * @return the formatted message.
+   * @since 0.7.0
+   */
+  String format(
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final CompiledTemplate compiledTemplate,
+      final @Nullable String argOne,
+      final @Nullable String argTwo) {
+    final var index = indexOf(messageTemplate, argOne, argTwo);
+    final var message = lookup(index, messageTemplate, argOne, argTwo);
+    if (message != null) {
+      return message;
+    }
+    return insert(
+        index,
+        new Entry(messageTemplate, argOne, argTwo, compiledTemplate.format(argOne, argTwo)));
+  }
+
+  /**
+   * Returns the index of the first entry of the set of the {@code messageTemplate} and arguments.
+   *
+   * @param messageTemplate of the message.
+   * @param argOne of the {@code messageTemplate}.
+   * @param argTwo of the {@code messageTemplate}.
+   * @return the index of the set.
+   */
+  @Contract(pure = true)
+  private int indexOf(
+      final Enum<?> messageTemplate, final @Nullable String argOne, final @Nullable String argTwo) {
+    var hash = messageTemplate.hashCode();
+    hash = 31 * hash + Objects.hashCode(argOne);
+    hash = 31 * hash + Objects.hashCode(argTwo);
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * Looks up the cached message in the set at {@code index}, promoting it to
+   * <em>most-recently-used</em> if found.
+   *
+   * @param index of the set.
+   * @param messageTemplate of the message.
+   * @param argOne of the {@code messageTemplate}.
+   * @param argTwo of the {@code messageTemplate}.
+   * @return the cached message, or {@code null} if not cached.
+   */
+  private @Nullable String lookup(
+      final int index,
+      final Enum<?> messageTemplate,
+      final @Nullable String argOne,
+      final @Nullable String argTwo) {
+    final var mostRecentEntry = entries[index];
+    if (mostRecentEntry != null && mostRecentEntry.matches(messageTemplate, argOne, argTwo)) {
+      return mostRecentEntry.message;
+    }
+    final var leastRecentEntry = entries[index + 1];
+    if (leastRecentEntry != null && leastRecentEntry.matches(messageTemplate, argOne, argTwo)) {
+      entries[index] = leastRecentEntry;
+      entries[index + 1] = mostRecentEntry;
+      return leastRecentEntry.message;
+    }
+    return null;
+  }
+
+  /**
+   * Inserts the {@code entry} as the <em>most-recently-used</em> entry of the set at {@code
+   * index}, evicting the <em>least-recently-used</em> entry.
+   *
+   * @param index of the set.
+   * @param entry to insert.
+   * @return the message of the {@code entry}.
+   */
+  private String insert(final int index, final Entry entry) {
+    entries[index + 1] = entries[index];
+    entries[index] = entry;
+    return entry.message;
+  }
+
+  /**
+   * An immutable cache entry. Being immutable, entries are safely published without
+   * synchronization.
+   */
+  private static final class Entry {
+
+    private final Enum<?> messageTemplate;
+    private final @Nullable String argOne;
+    private final @Nullable String argTwo;
+    private final String message;
+
+    @Contract(pure = true)
+    private Entry(
+        final Enum<?> messageTemplate,
+        final @Nullable String argOne,
+        final @Nullable String argTwo,
+        final String message) {
+      this.messageTemplate = messageTemplate;
+      this.argOne = argOne;
+      this.argTwo = argTwo;
+      this.message = message;
+    }
+
+    @Contract(pure = true)
+    private boolean matches(
+        final Enum<?> messageTemplate,
+        final @Nullable String argOne,
+        final @Nullable String argTwo) {
+      return this.messageTemplate == messageTemplate
+          && Objects.equals(this.argOne, argOne)
+          && Objects.equals(this.argTwo, argTwo);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.chrimle.exceptionfactory;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A <em>message-template</em>, common to {@link MessageTemplates.OneArgTemplate} and {@link
+ * MessageTemplates.TwoArgTemplate}.
+ *
+ * @see MessageTemplates
+ * @see TemplatedException
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public interface MessageTemplate {
+
+  /**
+   * Returns the name of this template, as declared.
+   *
+   * @return the name.
+   * @see Enum#name()
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String name();
+
+  /**
+   * Returns the <em>stable</em> id of this template, which is unique among all templates and
+   * independent of their declaration order, e.g. for logging and aggregating messages by template.
+   *
+   * @return the id.
+   * @see MessageTemplates#ofId(int)
+   * @see MessageTemplates#ID_VERSION
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  int getId();
+
+  /**
+   * Returns the {@code template} of this template.
+   *
+   * @return the {@code template}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  String getTemplate();
+
+  /**
+   * Returns the number of arguments required to format this template.
+   *
+   * @return the number of arguments.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  int getArgCount();
+}
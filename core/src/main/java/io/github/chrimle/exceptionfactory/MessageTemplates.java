@@ -3,6 +3,8 @@ package io.github.chrimle.exceptionfactory;
 import static io.github.chrimle.exceptionfactory.MessageBuilder.newMessageBuilder;
 import static io.github.chrimle.exceptionfactory.RequirementLevel.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.Nullable;
 
@@ -34,16 +36,99 @@ public final class MessageTemplates {
   private static final String OF_SIZE = "of size";
   private static final String CONTAIN = "contain";
   private static final String MATCH_REG_EX = "match RegEx";
+  private static final String BETWEEN = "between";
+  private static final String AND = "and";
+
+  /**
+   * Version of the <em>ids</em> of all templates. <em>Ids</em> are never re-assigned nor re-used
+   * within a version, and are independent of the declaration order of the templates. {@link
+   * OneArgTemplate}s have ids from {@code 1}, and {@link TwoArgTemplate}s from {@code 101}.
+   *
+   * @see MessageTemplate#getId()
+   * @since 0.7.0
+   */
+  public static final int ID_VERSION = 1;
+
+  /**
+   * Template requiring <strong>THREE</strong> <em>template specifiers</em>.
+   *
+   * <p><strong>Example:</strong>
+   *
+   * <pre>{@code "`example` MUST be between `1` and `42`"}</pre>
+   *
+   * @see NArgTemplate
+   * @since 0.7.0
+   */
+  public static final NArgTemplate MUST_BE_BETWEEN =
+      NArgTemplate.of(
+          newMessageBuilder()
+              .addFormatSpecifier(String.class)
+              .add(MUST)
+              .add(BE)
+              .add(BETWEEN)
+              .addFormatSpecifier(String.class)
+              .add(AND)
+              .addFormatSpecifier(String.class)
+              .toString());
+
+  /** All templates, indexed by <em>id</em>. */
+  private static final @Nullable MessageTemplate[] TEMPLATES_BY_ID = indexById();
 
   private MessageTemplates() {}
 
+  /**
+   * Returns the template with the {@code id}.
+   *
+   * @param id of the template.
+   * @return the template.
+   * @throws IllegalArgumentException if there is no template with the {@code id}.
+   * @see MessageTemplate#getId()
+   * @see #ID_VERSION
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public static MessageTemplate ofId(final int id) {
+    final var messageTemplate =
+        id >= 0 && id < TEMPLATES_BY_ID.length ? TEMPLATES_BY_ID[id] : null;
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`id` MUST be the id of a message template");
+    }
+    return messageTemplate;
+  }
+
+  /**
+   * Indexes all templates by <em>id</em>.
+   *
+   * @return all templates, indexed by <em>id</em>.
+   * @throws IllegalStateException if the <em>ids</em> of two templates collide.
+   */
+  private static @Nullable MessageTemplate[] indexById() {
+    final var messageTemplates = new ArrayList<MessageTemplate>();
+    Collections.addAll(messageTemplates, OneArgTemplate.values());
+    Collections.addAll(messageTemplates, TwoArgTemplate.values());
+    var maxId = 0;
+    for (final var messageTemplate : messageTemplates) {
+      maxId = Math.max(maxId, messageTemplate.getId());
+    }
+    final var templatesById = new @Nullable MessageTemplate[maxId + 1];
+    for (final var messageTemplate : messageTemplates) {
+      final var id = messageTemplate.getId();
+      if (id <= 0 || templatesById[id] != null) {
+        throw new IllegalStateException(
+            "`" + messageTemplate.name() + "` MUST have a positive and unique id");
+      }
+      templatesById[id] = messageTemplate;
+    }
+    return templatesById;
+  }
+
   /**
    * Template requiring <strong>ONE</strong> <em>template specifier</em> to format a message.
    *
    * @since 0.1.0
    * @author Chrimle
    */
-  public enum OneArgTemplate {
+  public enum OneArgTemplate implements MessageTemplate {
     /**
      * <strong>Example:</strong>
      *
@@ -52,6 +137,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_FALSE(
+        1,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).addCodeQuote(FALSE)),
     /**
      * <strong>Example:</strong>
@@ -61,6 +147,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_NEGATIVE(
+        2,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).add(NEGATIVE)),
     /**
      * <strong>Example:</strong>
@@ -70,6 +157,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_POSITIVE(
+        3,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).add(POSITIVE)),
     /**
      * <strong>Example:</strong>
@@ -79,6 +167,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_TRUE(
+        4,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).addCodeQuote(TRUE)),
     /**
      * <strong>Example:</strong>
@@ -88,6 +177,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_UNIQUE(
+        5,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).add(UNIQUE)),
     /**
      * <strong>Example:</strong>
@@ -97,6 +187,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_VALID(
+        6,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(BE).add(VALID)),
     /**
      * <strong>Example:</strong>
@@ -105,7 +196,7 @@ public final class MessageTemplates {
      *
      * @since 0.1.0
      */
-    MUST_EXIST(newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(EXIST)),
+    MUST_EXIST(7, newMessageBuilder().addFormatSpecifier(String.class).add(MUST).add(EXIST)),
     /**
      * <strong>Example:</strong>
      *
@@ -114,6 +205,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_NOT_BE_EMPTY(
+        8,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST_NOT).add(BE).add(EMPTY)),
     /**
      * <strong>Example:</strong>
@@ -123,6 +215,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_NOT_BE_NEGATIVE(
+        9,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST_NOT).add(BE).add(NEGATIVE)),
     /**
      * <strong>Example:</strong>
@@ -132,6 +225,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_NOT_BE_NULL(
+        10,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST_NOT)
@@ -145,6 +239,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_NOT_BE_POSITIVE(
+        11,
         newMessageBuilder().addFormatSpecifier(String.class).add(MUST_NOT).add(BE).add(POSITIVE)),
     /**
      * <strong>Example:</strong>
@@ -153,12 +248,18 @@ public final class MessageTemplates {
      *
      * @since 0.1.0
      */
-    MUST_NOT_EXIST(newMessageBuilder().addFormatSpecifier(String.class).add(MUST_NOT).add(EXIST));
+    MUST_NOT_EXIST(
+        12,
+        newMessageBuilder().addFormatSpecifier(String.class).add(MUST_NOT).add(EXIST));
 
+    private final int id;
     private final String template;
+    private final CompiledTemplate compiledTemplate;
 
-    OneArgTemplate(final MessageBuilder messageBuilder) {
+    OneArgTemplate(final int id, final MessageBuilder messageBuilder) {
+      this.id = id;
       this.template = messageBuilder.toString();
+      this.compiledTemplate = CompiledTemplate.compile(template, 1);
     }
 
     /**
@@ -167,21 +268,52 @@ public final class MessageTemplates {
      * @return the {@code template}.
      * @since 0.1.0
      */
+    @Override
     @Contract(pure = true)
     public String getTemplate() {
       return template;
     }
 
+    /**
+     * Returns the <em>stable</em> id of this constant.
+     *
+     * @return the id.
+     * @see MessageTemplates#ofId(int)
+     * @since 0.7.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int getId() {
+      return id;
+    }
+
+    /**
+     * Returns the number of arguments required to format this template, which is {@code 1}.
+     *
+     * @return {@code 1}.
+     * @since 0.7.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int getArgCount() {
+      return 1;
+    }
+
     /**
      * Creates a <em>formatted</em> {@code String} from the {@code template} and {@code arg}.
      *
      * @param arg to be used as a <em>template specifier</em>.
      * @return the formatted String.
+     * @see MessageCache
      * @since 0.1.0
      */
     @Contract(pure = true)
     public String format(final @Nullable String arg) {
-      return String.format(template, arg);
+      final var messageCache = MessageCache.get();
+      if (messageCache != null) {
+        return messageCache.format(this, compiledTemplate, arg);
+      }
+      return compiledTemplate.format(arg);
     }
   }
 
@@ -191,7 +323,7 @@ public final class MessageTemplates {
    * @since 0.1.0
    * @author Chrimle
    */
-  public enum TwoArgTemplate {
+  public enum TwoArgTemplate implements MessageTemplate {
     /**
      * <strong>Example:</strong>
      *
@@ -200,6 +332,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_AT_LEAST(
+        101,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -214,6 +347,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_AT_MOST(
+        102,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -229,6 +363,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_BE_EQUAL_TO(
+        103,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -243,6 +378,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_GREATER_THAN(
+        104,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -258,6 +394,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_BE_INSTANCE_OF(
+        105,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -272,6 +409,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_BE_LESS_THAN(
+        106,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -286,6 +424,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_BE_OF_LENGTH(
+        107,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -300,6 +439,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_BE_OF_SIZE(
+        108,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -314,6 +454,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_CONTAIN(
+        109,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -327,6 +468,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_MATCH_REGEX(
+        110,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST)
@@ -340,6 +482,7 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_NOT_BE_EQUAL_TO(
+        111,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST_NOT)
@@ -355,6 +498,7 @@ public final class MessageTemplates {
      * @since 0.2.0
      */
     MUST_NOT_BE_INSTANCE_OF(
+        112,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST_NOT)
@@ -369,16 +513,21 @@ public final class MessageTemplates {
      * @since 0.1.0
      */
     MUST_NOT_CONTAIN(
+        113,
         newMessageBuilder()
             .addFormatSpecifier(String.class)
             .add(MUST_NOT)
             .add(CONTAIN)
             .addFormatSpecifier(String.class));
 
+    private final int id;
     private final String template;
+    private final CompiledTemplate compiledTemplate;
 
-    TwoArgTemplate(final MessageBuilder messageBuilder) {
+    TwoArgTemplate(final int id, final MessageBuilder messageBuilder) {
+      this.id = id;
       this.template = messageBuilder.toString();
+      this.compiledTemplate = CompiledTemplate.compile(template, 2);
     }
 
     /**
@@ -387,22 +536,101 @@ public final class MessageTemplates {
      * @return the {@code template}.
      * @since 0.1.0
      */
+    @Override
     @Contract(pure = true)
     public String getTemplate() {
       return template;
     }
 
+    /**
+     * Returns the <em>stable</em> id of this constant.
+     *
+     * @return the id.
+     * @see MessageTemplates#ofId(int)
+     * @since 0.7.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int getId() {
+      return id;
+    }
+
+    /**
+     * Returns the number of arguments required to format this template, which is {@code 2}.
+     *
+     * @return {@code 2}.
+     * @since 0.7.0
+     */
+    @Override
+    @Contract(pure = true)
+    public int getArgCount() {
+      return 2;
+    }
+
     /**
      * Creates a <em>formatted</em> {@code String} from the {@code template} and {@code arg}.
      *
      * @param argOne to be used as the first <em>template specifier</em>.
      * @param argTwo to be used as the second <em>template specifier</em>.
      * @return the formatted String.
+     * @see MessageCache
      * @since 0.1.0
      */
     @Contract(pure = true)
     public String format(final @Nullable String argOne, final @Nullable String argTwo) {
-      return String.format(template, argOne, argTwo);
+      final var messageCache = MessageCache.get();
+      if (messageCache != null) {
+        return messageCache.format(this, compiledTemplate, argOne, argTwo);
+      }
+      return compiledTemplate.format(argOne, argTwo);
+    }
+
+    /**
+     * Creates a <em>formatted</em> {@code String} from the {@code template}, {@code argOne} and
+     * {@code argTwo}, without boxing {@code argTwo} nor converting it to an intermediate {@code
+     * String}. Identical to {@link #format(String, String) format(argOne,
+     * String.valueOf(argTwo))}, except that the {@link MessageCache} is not used.
+     *
+     * @param argOne to be used as the first <em>template specifier</em>.
+     * @param argTwo to be used as the second <em>template specifier</em>.
+     * @return the formatted String.
+     * @since 0.7.0
+     */
+    @Contract(pure = true)
+    public String format(final @Nullable String argOne, final int argTwo) {
+      return compiledTemplate.format(argOne, argTwo);
+    }
+
+    /**
+     * Creates a <em>formatted</em> {@code String} from the {@code template}, {@code argOne} and
+     * {@code argTwo}, without boxing {@code argTwo} nor converting it to an intermediate {@code
+     * String}. Identical to {@link #format(String, String) format(argOne,
+     * String.valueOf(argTwo))}, except that the {@link MessageCache} is not used.
+     *
+     * @param argOne to be used as the first <em>template specifier</em>.
+     * @param argTwo to be used as the second <em>template specifier</em>.
+     * @return the formatted String.
+     * @since 0.7.0
+     */
+    @Contract(pure = true)
+    public String format(final @Nullable String argOne, final long argTwo) {
+      return compiledTemplate.format(argOne, argTwo);
+    }
+
+    /**
+     * Creates a <em>formatted</em> {@code String} from the {@code template}, {@code argOne} and
+     * {@code argTwo}, without boxing {@code argTwo} nor converting it to an intermediate {@code
+     * String}. Identical to {@link #format(String, String) format(argOne,
+     * String.valueOf(argTwo))}, except that the {@link MessageCache} is not used.
+     *
+     * @param argOne to be used as the first <em>template specifier</em>.
+     * @param argTwo to be used as the second <em>template specifier</em>.
+     * @return the formatted String.
+     * @since 0.7.0
+     */
+    @Contract(pure = true)
+    public String format(final @Nullable String argOne, final double argTwo) {
+      return compiledTemplate.format(argOne, argTwo);
     }
   }
 }
@@ -0,0 +1,187 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.ArrayList;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Template requiring <strong>N</strong> <em>template specifiers</em> to format a message.
+ *
+ * <p>The template is parsed and validated <em>once</em>, into <em>literal segments</em> surrounding
+ * each <em>format specifier</em>. Supported <em>format specifiers</em> are {@code %s}, referring to
+ * the next argument, {@code %N$s}, referring to the {@code N}:th argument, and {@code %%}.
+ * Formatting pre-sizes the {@code String} exactly, and does not invoke {@link java.util.Formatter}.
+ * The formatted {@code String} is identical to {@link String#format(String, Object...)}, including
+ * {@code null} arguments being rendered as {@code "null"}.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * private static final NArgTemplate MUST_BE_IN_RANGE =
+ *     NArgTemplate.of("`%s` MUST be in range [`%s`, `%s`], but was `%s`");
+ *
+ * throw ExceptionFactory.illegalArgumentOf(MUST_BE_IN_RANGE, "port", "1", "65535", port);
+ * }</pre>
+ *
+ * @see MessageTemplates#MUST_BE_BETWEEN
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class NArgTemplate {
+
+  /** The highest supported argument position of a {@code %N$s} <em>format specifier</em>. */
+  private static final int MAX_POSITION = 1024;
+
+  /** The {@code template}, as declared. */
+  private final String template;
+
+  /** The <em>literal segments</em>, surrounding each <em>format specifier</em>. */
+  private final String[] segments;
+
+  /** The index of the argument of each <em>format specifier</em>. */
+  private final int[] argIndices;
+
+  /** The number of arguments required to format this template. */
+  private final int argCount;
+
+  /** The total length of all {@link #segments}. */
+  private final int segmentsLength;
+
+  /**
+   * <em>Private Constructor</em>.
+   *
+   * @param template as declared.
+   * @param segments of the {@code template}.
+   * @param argIndices of each <em>format specifier</em>.
+   * @param argCount of the {@code template}.
+   */
+  @Contract(pure = true)
+  private NArgTemplate(
+      final String template, final String[] segments, final int[] argIndices, final int argCount) {
+    this.template = template;
+    this.segments = segments;
+    this.argIndices = argIndices;
+    this.argCount = argCount;
+    var length = 0;
+    for (final var segment : segments) {
+      length += segment.length();
+    }
+    this.segmentsLength = length;
+  }
+
+  /**
+   * Parses the {@code template}, which <strong>MUST</strong> only contain {@code %s}, {@code %N$s}
+   * and {@code %%} <em>format specifiers</em>. The number of arguments is the highest argument
+   * referred to by any <em>format specifier</em>.
+   *
+   * @param template to parse.
+   * @return a new {@link NArgTemplate}.
+   * @throws IllegalArgumentException if {@code template} is {@code null}, or contains an
+   *     unsupported <em>format specifier</em>.
+   * @since 0.7.0
+   */
+  @Contract("null -> fail; _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static NArgTemplate of(final String template) {
+    if (template == null) {
+      throw new IllegalArgumentException("`template` MUST NOT be `null`");
+    }
+    final var segments = new ArrayList<String>();
+    final var argIndices = new ArrayList<Integer>();
+    final var segment = new StringBuilder(template.length());
+    var nextArgIndex = 0;
+    var argCount = 0;
+    for (var i = 0; i < template.length(); i++) {
+      final var c = template.charAt(i);
+      if (c != '%') {
+        segment.append(c);
+        continue;
+      }
+      final var specifier = i + 1 < template.length() ? template.charAt(i + 1) : '\0';
+      if (specifier == '%') {
+        segment.append('%');
+        i++;
+        continue;
+      }
+      final int argIndex;
+      if (specifier == 's') {
+        argIndex = nextArgIndex++;
+        i++;
+      } else {
+        var j = i + 1;
+        var position = 0;
+        while (j < template.length() && isDigit(template.charAt(j)) && position < MAX_POSITION) {
+          position = position * 10 + (template.charAt(j++) - '0');
+        }
+        if (position == 0 || position > MAX_POSITION || !template.startsWith("$s", j)) {
+          throw new IllegalArgumentException(
+              "`template` MUST only contain `%s`, `%N$s` and `%%` format specifiers");
+        }
+        argIndex = position - 1;
+        i = j + 1;
+      }
+      segments.add(segment.toString());
+      segment.setLength(0);
+      argIndices.add(argIndex);
+      argCount = Math.max(argCount, argIndex + 1);
+    }
+    segments.add(segment.toString());
+    return new NArgTemplate(
+        template,
+        segments.toArray(new String[0]),
+        argIndices.stream().mapToInt(Integer::intValue).toArray(),
+        argCount);
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * Returns the {@code template} of this template, as declared.
+   *
+   * @return the {@code template}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Returns the number of arguments required to format this template.
+   *
+   * @return the number of arguments.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public int getArgCount() {
+    return argCount;
+  }
+
+  /**
+   * Creates a <em>formatted</em> {@code String} from the {@code template} and {@code args}.
+   *
+   * @param args to be used as <em>template specifiers</em>. <strong>MUST</strong> be exactly
+   *     {@link #getArgCount()} arguments.
+   * @return the formatted String.
+   * @throws IllegalArgumentException if the number of {@code args} is not {@link #getArgCount()}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public String format(final @Nullable String @Nullable ... args) {
+    final var argsLength = args == null ? 0 : args.length;
+    if (argsLength != argCount) {
+      throw new IllegalArgumentException("`args` MUST be of length `" + argCount + "`");
+    }
+    var length = segmentsLength;
+    for (final var argIndex : argIndices) {
+      length += String.valueOf(args[argIndex]).length();
+    }
+    final var message = new StringBuilder(length).append(segments[0]);
+    for (var i = 0; i < argIndices.length; i++) {
+      message.append(args[argIndices[i]]).append(segments[i + 1]);
+    }
+    return message.toString();
+  }
+}
@@ -0,0 +1,622 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+
+import java.util.Collection;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Preconditions</em>, which throw {@link IllegalArgumentException}s derived from {@link
+ * MessageTemplates}.
+ *
+ * <p>Passing checks do not allocate, box or format anything. Primitive overloads are provided to
+ * avoid boxing, and the failure branches are separate methods, so that only the check itself is
+ * inlined at the call site. {@link Double#NaN} fails every numeric check.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * this.username = Preconditions.requireNonNull(username, "username");
+ * this.limit = Preconditions.requireAtMost(limit, 100, "limit");
+ * }</pre>
+ *
+ * Throws a {@link IllegalArgumentException} with a {@code message} as {@code "`limit` MUST be at
+ * most `100`"}, if {@code limit} is greater than {@code 100}.
+ *
+ * @see ExceptionFactory
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class Preconditions {
+
+  private Preconditions() {}
+
+  /**
+   * Requires the {@code object} to not be {@code null}.
+   *
+   * @param object to check.
+   * @param key of the {@code object}, to include in the {@code message}.
+   * @return the {@code object}.
+   * @param <T> type of the {@code object}.
+   * @throws IllegalArgumentException if {@code object} is {@code null}.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_NULL
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; !null, _ -> param1")
+  public static <T> T requireNonNull(final @Nullable T object, final @Nullable String key) {
+    if (object == null) {
+      throw failure(key, MUST_NOT_BE_NULL);
+    }
+    return object;
+  }
+
+  /**
+   * Requires the {@code charSequence} to not be {@code null} nor empty.
+   *
+   * @param charSequence to check.
+   * @param key of the {@code charSequence}, to include in the {@code message}.
+   * @return the {@code charSequence}.
+   * @param <T> type of the {@code charSequence}.
+   * @throws IllegalArgumentException if {@code charSequence} is {@code null} or empty.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_EMPTY
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; !null, _ -> param1")
+  public static <T extends CharSequence> T requireNonEmpty(
+      final @Nullable T charSequence, final @Nullable String key) {
+    if (requireNonNull(charSequence, key).length() == 0) {
+      throw failure(key, MUST_NOT_BE_EMPTY);
+    }
+    return charSequence;
+  }
+
+  /**
+   * Requires the {@code collection} to not be {@code null} nor empty.
+   *
+   * @param collection to check.
+   * @param key of the {@code collection}, to include in the {@code message}.
+   * @return the {@code collection}.
+   * @param <T> type of the {@code collection}.
+   * @throws IllegalArgumentException if {@code collection} is {@code null} or empty.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_EMPTY
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; !null, _ -> param1")
+  public static <T extends Collection<?>> T requireNonEmpty(
+      final @Nullable T collection, final @Nullable String key) {
+    if (requireNonNull(collection, key).isEmpty()) {
+      throw failure(key, MUST_NOT_BE_EMPTY);
+    }
+    return collection;
+  }
+
+  /**
+   * Requires the {@code condition} to be {@code true}.
+   *
+   * @param condition to check.
+   * @param key of the {@code condition}, to include in the {@code message}.
+   * @throws IllegalArgumentException if {@code condition} is {@code false}.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_TRUE
+   * @since 0.7.0
+   */
+  @Contract("false, _ -> fail")
+  public static void requireTrue(final boolean condition, final @Nullable String key) {
+    if (!condition) {
+      throw failure(key, MUST_BE_TRUE);
+    }
+  }
+
+  /**
+   * Requires the {@code condition} to be {@code false}.
+   *
+   * @param condition to check.
+   * @param key of the {@code condition}, to include in the {@code message}.
+   * @throws IllegalArgumentException if {@code condition} is {@code true}.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_FALSE
+   * @since 0.7.0
+   */
+  @Contract("true, _ -> fail")
+  public static void requireFalse(final boolean condition, final @Nullable String key) {
+    if (condition) {
+      throw failure(key, MUST_BE_FALSE);
+    }
+  }
+
+  /**
+   * Requires the {@code number} to be positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static int requirePositive(final int number, final @Nullable String key) {
+    if (!(number > 0)) {
+      throw failure(key, MUST_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static long requirePositive(final long number, final @Nullable String key) {
+    if (!(number > 0)) {
+      throw failure(key, MUST_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static double requirePositive(final double number, final @Nullable String key) {
+    if (!(number > 0)) {
+      throw failure(key, MUST_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static int requireNegative(final int number, final @Nullable String key) {
+    if (!(number < 0)) {
+      throw failure(key, MUST_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static long requireNegative(final long number, final @Nullable String key) {
+    if (!(number < 0)) {
+      throw failure(key, MUST_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static double requireNegative(final double number, final @Nullable String key) {
+    if (!(number < 0)) {
+      throw failure(key, MUST_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static int requireNonNegative(final int number, final @Nullable String key) {
+    if (!(number >= 0)) {
+      throw failure(key, MUST_NOT_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static long requireNonNegative(final long number, final @Nullable String key) {
+    if (!(number >= 0)) {
+      throw failure(key, MUST_NOT_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> negative.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is negative.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_NEGATIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static double requireNonNegative(final double number, final @Nullable String key) {
+    if (!(number >= 0)) {
+      throw failure(key, MUST_NOT_BE_NEGATIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static int requireNonPositive(final int number, final @Nullable String key) {
+    if (!(number <= 0)) {
+      throw failure(key, MUST_NOT_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static long requireNonPositive(final long number, final @Nullable String key) {
+    if (!(number <= 0)) {
+      throw failure(key, MUST_NOT_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be <em>not</em> positive.
+   *
+   * @param number to check.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is positive.
+   * @see MessageTemplates.OneArgTemplate#MUST_NOT_BE_POSITIVE
+   * @since 0.7.0
+   */
+  @Contract("_, _ -> param1")
+  public static double requireNonPositive(final double number, final @Nullable String key) {
+    if (!(number <= 0)) {
+      throw failure(key, MUST_NOT_BE_POSITIVE);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at least {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is less than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_LEAST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static int requireAtLeast(final int number, final int min, final @Nullable String key) {
+    if (!(number >= min)) {
+      throw failure(key, MUST_BE_AT_LEAST, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at least {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is less than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_LEAST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static long requireAtLeast(final long number, final long min, final @Nullable String key) {
+    if (!(number >= min)) {
+      throw failure(key, MUST_BE_AT_LEAST, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at least {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is less than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_LEAST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static double requireAtLeast(
+      final double number, final double min, final @Nullable String key) {
+    if (!(number >= min)) {
+      throw failure(key, MUST_BE_AT_LEAST, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at most {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is greater than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_MOST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static int requireAtMost(final int number, final int max, final @Nullable String key) {
+    if (!(number <= max)) {
+      throw failure(key, MUST_BE_AT_MOST, max);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at most {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is greater than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_MOST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static long requireAtMost(final long number, final long max, final @Nullable String key) {
+    if (!(number <= max)) {
+      throw failure(key, MUST_BE_AT_MOST, max);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be at most {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is greater than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_AT_MOST
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static double requireAtMost(
+      final double number, final double max, final @Nullable String key) {
+    if (!(number <= max)) {
+      throw failure(key, MUST_BE_AT_MOST, max);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be greater than {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not greater than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_GREATER_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static int requireGreaterThan(
+      final int number, final int min, final @Nullable String key) {
+    if (!(number > min)) {
+      throw failure(key, MUST_BE_GREATER_THAN, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be greater than {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not greater than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_GREATER_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static long requireGreaterThan(
+      final long number, final long min, final @Nullable String key) {
+    if (!(number > min)) {
+      throw failure(key, MUST_BE_GREATER_THAN, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be greater than {@code min}.
+   *
+   * @param number to check.
+   * @param min of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not greater than {@code min}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_GREATER_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static double requireGreaterThan(
+      final double number, final double min, final @Nullable String key) {
+    if (!(number > min)) {
+      throw failure(key, MUST_BE_GREATER_THAN, min);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be less than {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not less than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_LESS_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static int requireLessThan(final int number, final int max, final @Nullable String key) {
+    if (!(number < max)) {
+      throw failure(key, MUST_BE_LESS_THAN, max);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be less than {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not less than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_LESS_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static long requireLessThan(
+      final long number, final long max, final @Nullable String key) {
+    if (!(number < max)) {
+      throw failure(key, MUST_BE_LESS_THAN, max);
+    }
+    return number;
+  }
+
+  /**
+   * Requires the {@code number} to be less than {@code max}.
+   *
+   * @param number to check.
+   * @param max of the {@code number}.
+   * @param key of the {@code number}, to include in the {@code message}.
+   * @return the {@code number}.
+   * @throws IllegalArgumentException if {@code number} is not less than {@code max}.
+   * @see MessageTemplates.TwoArgTemplate#MUST_BE_LESS_THAN
+   * @since 0.7.0
+   */
+  @Contract("_, _, _ -> param1")
+  public static double requireLessThan(
+      final double number, final double max, final @Nullable String key) {
+    if (!(number < max)) {
+      throw failure(key, MUST_BE_LESS_THAN, max);
+    }
+    return number;
+  }
+
+  /**
+   * Creates the {@link IllegalArgumentException} of a failed check. Kept separate from the checks,
+   * so that only the checks are inlined.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return a new {@link IllegalArgumentException} instance.
+   */
+  private static IllegalArgumentException failure(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    return ExceptionFactory.illegalArgumentOf(key, messageTemplate);
+  }
+
+  /**
+   * Creates the {@link IllegalArgumentException} of a failed check. Kept separate from the checks,
+   * so that only the checks are inlined, and {@code value} is only formatted on failure.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   */
+  private static IllegalArgumentException failure(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final long value) {
+    return ExceptionFactory.illegalArgumentOf(key, messageTemplate, value);
+  }
+
+  /**
+   * Creates the {@link IllegalArgumentException} of a failed check. Kept separate from the checks,
+   * so that only the checks are inlined, and {@code value} is only formatted on failure.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @param value to include in the {@code messageTemplate}.
+   * @return a new {@link IllegalArgumentException} instance.
+   */
+  private static IllegalArgumentException failure(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final double value) {
+    return ExceptionFactory.illegalArgumentOf(key, messageTemplate, value);
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Registry of <em>shared</em>, <em>stackless</em> exceptions, per {@link Exception}-class, {@link
+ * MessageTemplates.OneArgTemplate} and {@code key}.
+ *
+ * <p>Lookups are performed via a {@link ClassValue} and an array indexed by {@link
+ * MessageTemplates.OneArgTemplate#ordinal()}, followed by a {@link ConcurrentHashMap}-lookup of the
+ * {@code key}. The registry holds at most {@link #MAX_SIZE} exceptions in total, after which new
+ * <em>stackless</em> exceptions are instantiated instead, without being made <em>immutable</em>.
+ * Every <em>shared</em> exception has <em>suppression</em> disabled, and an unwritable <em>stack
+ * trace</em>.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class SharedExceptions {
+
+  /** The maximum number of <em>shared</em> exceptions held by the registry. */
+  static final int MAX_SIZE = 1024;
+
+  /** The number of <em>shared</em> exceptions held by the registry. */
+  private static final AtomicInteger SIZE = new AtomicInteger();
+
+  /** <em>Shared</em> exceptions, per {@link Exception}-class, template and {@code key}. */
+  private static final ClassValue<ConcurrentHashMap<String, Exception>[]> REGISTRIES =
+      new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ConcurrentHashMap<String, Exception>[] computeValue(final Class<?> type) {
+          final var registries =
+              (ConcurrentHashMap<String, Exception>[])
+                  new ConcurrentHashMap<?, ?>[MessageTemplates.OneArgTemplate.values().length];
+          for (var i = 0; i < registries.length; i++) {
+            registries[i] = new ConcurrentHashMap<>();
+          }
+          return registries;
+        }
+      };
+
+  private SharedExceptions() {}
+
+  /**
+   * Returns the <em>shared</em> exception of the {@code exceptionConstructor}, with the {@code
+   * message} derived from the {@code messageTemplate} and {@code key}.
+   *
+   * @param exceptionConstructor of the {@link Exception}-class.
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate to create the {@code message}.
+   * @return the <em>shared</em> exception.
+   * @param <C> {@link Exception}-class of the exception.
+   * @since 0.7.0
+   */
+  static <C extends Exception> C get(
+      final ExceptionConstructor<C> exceptionConstructor,
+      final @Nullable String key,
+      final MessageTemplates.OneArgTemplate messageTemplate) {
+    final var exceptionClass = exceptionConstructor.getExceptionClass();
+    ExceptionMetrics.record(exceptionClass, messageTemplate);
+    final var registry = REGISTRIES.get(exceptionClass)[messageTemplate.ordinal()];
+    // A `null` key formats identically to "null".
+    final var registryKey = String.valueOf(key);
+    final var sharedException = registry.get(registryKey);
+    if (sharedException != null) {
+      return exceptionClass.cast(sharedException);
+    }
+    final var message = messageTemplate.format(key);
+    if (SIZE.getAndIncrement() >= MAX_SIZE) {
+      SIZE.decrementAndGet();
+      return ExceptionFactory.report(exceptionConstructor.newStacklessInstance(message, null));
+    }
+    final var exception =
+        StacklessExceptions.immutable(exceptionConstructor.newStacklessInstance(message, null));
+    final var previousException = registry.putIfAbsent(registryKey, exception);
+    if (previousException != null) {
+      SIZE.decrementAndGet();
+      return exceptionClass.cast(previousException);
+    }
+    return ExceptionFactory.report(exception);
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Policy of which exceptions capture a <em>stack trace</em>. Exceptions which are not sampled are
+ * built with an empty <em>stack trace</em>.
+ *
+ * <p>Bounds the cost of filling in <em>stack traces</em> when many exceptions are created, while
+ * still capturing <em>representative</em> stack traces. Implementations <strong>MUST</strong> be
+ * thread-safe.
+ *
+ * @see ExceptionBuilder#setStackTraceSampler(StackTraceSampler)
+ * @see ExceptionFactory#setStackTraceSampler(StackTraceSampler)
+ * @since 0.7.0
+ * @author Chrimle
+ */
+@FunctionalInterface
+public interface StackTraceSampler {
+
+  /**
+   * Determines whether an exception of the {@code exceptionClass} is to capture a <em>stack
+   * trace</em>.
+   *
+   * @param exceptionClass of the exception to be created.
+   * @return whether to capture a <em>stack trace</em>.
+   * @since 0.7.0
+   */
+  boolean sample(Class<? extends Exception> exceptionClass);
+
+  /**
+   * Creates a {@link StackTraceSampler} which samples <strong>ONE</strong> in every {@code n}
+   * exceptions, on average.
+   *
+   * <p>Each exception is sampled at random, with a probability of {@code 1/n}, via {@link
+   * ThreadLocalRandom}. Unlike a counter, this neither contends between threads, nor always samples
+   * the first exception of each thread.
+   *
+   * @param n exceptions per sampled exception. <strong>MUST</strong> be positive.
+   * @return a new {@link StackTraceSampler}.
+   * @throws IllegalArgumentException if {@code n} is not positive.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  static StackTraceSampler oneIn(final int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("`n` MUST be positive");
+    }
+    return exceptionClass -> ThreadLocalRandom.current().nextInt(n) == 0;
+  }
+
+  /**
+   * Creates a {@link StackTraceSampler} which samples at most {@code k} exceptions per second, per
+   * {@link Exception}-class.
+   *
+   * <p>Each {@link Exception}-class has its own lock-free counter, which is reset at the start of
+   * every second.
+   *
+   * @param k sampled exceptions per second. <strong>MUST</strong> be positive.
+   * @return a new {@link StackTraceSampler}.
+   * @throws IllegalArgumentException if {@code k} is not positive.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  static StackTraceSampler perSecond(final int k) {
+    if (k <= 0) {
+      throw new IllegalArgumentException("`k` MUST be positive");
+    }
+    final var windows =
+        new ClassValue<AtomicLong>() {
+          @Override
+          protected AtomicLong computeValue(final Class<?> type) {
+            return new AtomicLong();
+          }
+        };
+    return exceptionClass -> {
+      // The upper 32 bits hold the current second, and the lower 32 bits the sampled count.
+      final var window = windows.get(exceptionClass);
+      final var second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()) << 32;
+      while (true) {
+        final var state = window.get();
+        final var count = (state & 0xFFFF_FFFFL) + 1;
+        if ((state & 0xFFFF_FFFF_0000_0000L) != second) {
+          if (window.compareAndSet(state, second | 1)) {
+            return true;
+          }
+        } else if (count > k) {
+          return false;
+        } else if (window.compareAndSet(state, second | count)) {
+          return true;
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,63 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.Set;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Captures <em>depth-limited</em> stack traces via {@link StackWalker}.
+ *
+ * <p>Only the captured frames are materialized as {@link StackTraceElement}s, and any leading
+ * frames of this library are omitted.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class StackTraces {
+
+  /** Walker of the current stack, retaining the declaring class of each frame. */
+  private static final StackWalker STACK_WALKER =
+      StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  /** Classes of this library, whose frames are omitted from the top of captured stack traces. */
+  private static final Set<Class<?>> LIBRARY_CLASSES =
+      Set.of(
+          ExceptionBuilder.class,
+          ExceptionConstructor.class,
+          ExceptionFactory.class,
+          ExceptionSpec.class,
+          Preconditions.class,
+          SharedExceptions.class,
+          StackTraces.class,
+          Violations.class);
+
+  private StackTraces() {}
+
+  /**
+   * Captures the stack trace of the current thread, omitting leading frames of this library.
+   *
+   * @param maxDepth of the stack trace.
+   * @return the captured stack trace, of at most {@code maxDepth} elements.
+   * @since 0.7.0
+   */
+  @Contract("_ -> new")
+  static StackTraceElement[] capture(final int maxDepth) {
+    return STACK_WALKER.walk(
+        stackFrames ->
+            stackFrames
+                .dropWhile(StackTraces::isLibraryFrame)
+                .limit(maxDepth)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+  }
+
+  /**
+   * Checks whether the {@code stackFrame} belongs to a class of this library.
+   *
+   * @param stackFrame to check.
+   * @return whether the {@code stackFrame} belongs to this library.
+   */
+  @Contract(pure = true)
+  private static boolean isLibraryFrame(final StackWalker.StackFrame stackFrame) {
+    return LIBRARY_CLASSES.contains(stackFrame.getDeclaringClass().getNestHost());
+  }
+}
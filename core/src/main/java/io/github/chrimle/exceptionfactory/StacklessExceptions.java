@@ -0,0 +1,262 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Stackless</em> sub-classes of common {@link Exception}-classes, which do not have an
+ * accessible {@code (String, Throwable, boolean, boolean)} constructor.
+ *
+ * <p>These sub-classes never fill in their <em>stack trace</em>, and ignore {@link
+ * Throwable#setStackTrace(StackTraceElement[])}, as if constructed with <em>writable stack
+ * trace</em> disabled. They are otherwise indistinguishable from their super-class, as {@link
+ * Throwable#toString()} reports the name of the super-class.
+ *
+ * <p><em>Suppression</em> is only disabled for {@link StacklessException} and {@link
+ * StacklessRuntimeException}. {@link IllegalArgumentException}, {@link IllegalStateException} and
+ * {@link UnsupportedOperationException} only have {@code (String, Throwable)} constructors, and
+ * {@link Throwable#addSuppressed(Throwable)} is {@code final}, so their sub-classes
+ * <strong>DO</strong> record suppressed exceptions.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+final class StacklessExceptions {
+
+  /** <em>Stackless</em> sub-classes, which record suppressed exceptions. */
+  private static final Set<Class<? extends Exception>> SUPPRESSIBLE_CLASSES =
+      Set.of(
+          StacklessIllegalArgumentException.class,
+          StacklessIllegalStateException.class,
+          StacklessUnsupportedOperationException.class);
+
+  private StacklessExceptions() {}
+
+  /**
+   * Returns an <em>immutable</em> equivalent of the <em>stackless</em> {@code exception}, with
+   * <em>suppression</em> disabled and an unwritable <em>stack trace</em>.
+   *
+   * <p>Instances of sub-classes which record suppressed exceptions are copied via their
+   * <em>serial form</em>, in which a {@code null} list of suppressed exceptions, and a sentinel
+   * <em>stack trace</em>, are the only means of disabling either without a {@code (String,
+   * Throwable, boolean, boolean)} constructor. Any other {@code exception} is returned as is. The
+   * copy is costly, and is intended for exceptions which are <em>shared</em>.
+   *
+   * @param exception to get the <em>immutable</em> equivalent of.
+   * @return the <em>immutable</em> equivalent.
+   * @param <C> {@link Exception}-class of the {@code exception}.
+   * @throws IllegalStateException if the {@code exception} could not be copied.
+   * @since 0.7.0
+   */
+  static <C extends Exception> C immutable(final C exception) {
+    if (!SUPPRESSIBLE_CLASSES.contains(exception.getClass())) {
+      return exception;
+    }
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ImmutableObjectOutputStream(bytes)) {
+      output.writeObject(exception);
+    } catch (IOException e) {
+      throw new IllegalStateException("`exception` could NOT be copied", e);
+    }
+    try (final var input = new StacklessObjectInputStream(bytes.toByteArray())) {
+      @SuppressWarnings("unchecked")
+      final var copy = (C) exception.getClass().cast(input.readObject());
+      return copy;
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalStateException("`exception` could NOT be copied", e);
+    }
+  }
+
+  /**
+   * Returns the {@link Throwable#toString()} of the {@code throwable}, as if it was an instance of
+   * its super-class.
+   *
+   * @param throwable to get the string representation of.
+   * @return the string representation.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  static String toString(final Throwable throwable) {
+    final var className = throwable.getClass().getSuperclass().getName();
+    final var message = throwable.getLocalizedMessage();
+    return message != null ? className + ": " + message : className;
+  }
+
+  /**
+   * Validates the {@code stackTrace}, as {@link Throwable#setStackTrace(StackTraceElement[])} does
+   * for exceptions with <em>writable stack trace</em> disabled.
+   *
+   * @param stackTrace to validate.
+   * @throws NullPointerException if {@code stackTrace}, or any of its elements, is {@code null}.
+   */
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  private static void requireNonNullElements(final StackTraceElement[] stackTrace) {
+    for (final var stackTraceElement : stackTrace) {
+      Objects.requireNonNull(stackTraceElement, "stackTrace[i]");
+    }
+  }
+
+  /**
+   * {@link ObjectOutputStream}, which writes {@link Throwable}s with <em>suppression</em> disabled
+   * and an unwritable <em>stack trace</em>.
+   */
+  private static final class ImmutableObjectOutputStream extends ObjectOutputStream {
+
+    /** Serial form of an unwritable <em>stack trace</em>, as written by {@link Throwable}. */
+    private static final StackTraceElement[] IMMUTABLE_STACK_TRACE = {
+      new StackTraceElement("", "", null, Integer.MIN_VALUE)
+    };
+
+    /** Sentinel of no suppressed exceptions, as held by {@link Throwable}. */
+    private static final List<?> SUPPRESSED_SENTINEL = Collections.emptyList();
+
+    ImmutableObjectOutputStream(final OutputStream outputStream) throws IOException {
+      super(outputStream);
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected @Nullable Object replaceObject(final Object object) {
+      // `Throwable` holds `Collections.emptyList()` as its sentinel of no suppressed exceptions,
+      // and the only empty `StackTraceElement[]` of a stackless exception is its stack trace.
+      if (object == SUPPRESSED_SENTINEL) {
+        return null;
+      }
+      if (object instanceof StackTraceElement[] stackTrace && stackTrace.length == 0) {
+        return IMMUTABLE_STACK_TRACE;
+      }
+      return object;
+    }
+  }
+
+  /** {@link ObjectInputStream}, which resolves classes via the class loader of this library. */
+  private static final class StacklessObjectInputStream extends ObjectInputStream {
+
+    StacklessObjectInputStream(final byte[] bytes) throws IOException {
+      super(new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass)
+        throws ClassNotFoundException {
+      return Class.forName(
+          objectStreamClass.getName(), false, StacklessExceptions.class.getClassLoader());
+    }
+  }
+
+  /** <em>Stackless</em> {@link Exception}. */
+  static final class StacklessException extends Exception {
+    @Serial private static final long serialVersionUID = 1L;
+
+    StacklessException(final @Nullable String message, final @Nullable Throwable cause) {
+      super(message, cause, false, false);
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+
+  /** <em>Stackless</em> {@link RuntimeException}. */
+  static final class StacklessRuntimeException extends RuntimeException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    StacklessRuntimeException(final @Nullable String message, final @Nullable Throwable cause) {
+      super(message, cause, false, false);
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+
+  /** <em>Stackless</em> {@link IllegalArgumentException}. */
+  static final class StacklessIllegalArgumentException extends IllegalArgumentException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    StacklessIllegalArgumentException(
+        final @Nullable String message, final @Nullable Throwable cause) {
+      super(message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+    @Override
+    public void setStackTrace(final StackTraceElement[] stackTrace) {
+      StacklessExceptions.requireNonNullElements(stackTrace);
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+
+  /** <em>Stackless</em> {@link IllegalStateException}. */
+  static final class StacklessIllegalStateException extends IllegalStateException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    StacklessIllegalStateException(
+        final @Nullable String message, final @Nullable Throwable cause) {
+      super(message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+    @Override
+    public void setStackTrace(final StackTraceElement[] stackTrace) {
+      StacklessExceptions.requireNonNullElements(stackTrace);
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+
+  /** <em>Stackless</em> {@link UnsupportedOperationException}. */
+  static final class StacklessUnsupportedOperationException
+      extends UnsupportedOperationException {
+    @Serial private static final long serialVersionUID = 1L;
+
+    StacklessUnsupportedOperationException(
+        final @Nullable String message, final @Nullable Throwable cause) {
+      super(message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+    @Override
+    public void setStackTrace(final StackTraceElement[] stackTrace) {
+      StacklessExceptions.requireNonNullElements(stackTrace);
+    }
+
+    @Override
+    public String toString() {
+      return StacklessExceptions.toString(this);
+    }
+  }
+}
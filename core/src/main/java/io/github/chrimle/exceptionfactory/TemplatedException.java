@@ -0,0 +1,50 @@
+package io.github.chrimle.exceptionfactory;
+
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Mixin</em> of exceptions, which retain the {@link MessageTemplate} and <em>raw
+ * arguments</em> of their {@code message}.
+ *
+ * <p>Allows mapping exceptions, e.g. to API error responses, by reading fields rather than parsing
+ * the {@code message}.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * catch (IllegalArgumentException exception) {
+ *   if (exception instanceof TemplatedException templated) {
+ *     final var field = templated.getMessageArgs().get(0);
+ *     final var violation = templated.getMessageTemplate().name();
+ *   }
+ * }
+ * }</pre>
+ *
+ * @see ExceptionFactory#lazyIllegalArgumentOf(String, MessageTemplates.OneArgTemplate)
+ * @see ExceptionFactory#lazyIllegalStateOf(String, MessageTemplates.OneArgTemplate)
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public interface TemplatedException {
+
+  /**
+   * Returns the {@link MessageTemplate} of the {@code message}.
+   *
+   * @return the {@link MessageTemplate}.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  MessageTemplate getMessageTemplate();
+
+  /**
+   * Returns the <em>raw arguments</em> of the {@link #getMessageTemplate()}, in order. The first
+   * argument is the {@code key}.
+   *
+   * @return an unmodifiable list of {@link MessageTemplate#getArgCount()} arguments.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  List<@Nullable String> getMessageArgs();
+}
@@ -0,0 +1,232 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_EMPTY;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Collector of <em>violations</em>, which are aggregated into a <strong>single</strong> exception.
+ *
+ * <p>Each violation is recorded as a <em>message template</em> and its arguments, without creating
+ * an exception or formatting its message. Messages are only formatted when the aggregated
+ * exception is built.
+ *
+ * <p><strong>Example Usage</strong>
+ *
+ * <pre>{@code
+ * final var violations = ExceptionFactory.violations();
+ * if (username == null) violations.add("username", MUST_NOT_BE_NULL);
+ * if (age < 0) violations.add("age", MUST_NOT_BE_NEGATIVE);
+ * violations.throwIfAny(IllegalArgumentException.class);
+ * }</pre>
+ *
+ * Throws a {@link IllegalArgumentException} with a {@code message} as {@code "`username` MUST NOT
+ * be `null`; `age` MUST NOT be negative"}.
+ *
+ * <p><em>Instances are not thread-safe.</em>
+ *
+ * @see ExceptionFactory#violations()
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class Violations {
+
+  /** Separator of aggregated messages. */
+  private static final String SEPARATOR = "; ";
+
+  /** The initial capacity of the arrays of violations. */
+  private static final int INITIAL_CAPACITY = 4;
+
+  /** The <em>message templates</em> of the violations. */
+  private @Nullable Enum<?>[] messageTemplates = new Enum<?>[INITIAL_CAPACITY];
+
+  /** The keys of the violations. */
+  private @Nullable String[] keys = new String[INITIAL_CAPACITY];
+
+  /** The values of the violations, for {@link MessageTemplates.TwoArgTemplate}s. */
+  private @Nullable String[] values = new String[INITIAL_CAPACITY];
+
+  /** The number of violations. */
+  private int size;
+
+  /** <em>Package-private Constructor</em>. */
+  Violations() {}
+
+  /**
+   * Adds a violation of the {@code messageTemplate} and {@code key}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate of the violation.
+   * @return <em>this</em> {@link Violations}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null -> fail; _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Violations add(
+      final @Nullable String key, final MessageTemplates.OneArgTemplate messageTemplate) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return add(messageTemplate, key, null);
+  }
+
+  /**
+   * Adds a violation of the {@code messageTemplate}, {@code key} and {@code value}.
+   *
+   * @param key to include in the {@code messageTemplate}.
+   * @param messageTemplate of the violation.
+   * @param value to include in the {@code messageTemplate}.
+   * @return <em>this</em> {@link Violations}.
+   * @throws IllegalArgumentException if {@code messageTemplate} is {@code null}.
+   * @since 0.7.0
+   */
+  @Contract("_, null, _ -> fail; _, _, _ -> this")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public Violations add(
+      final @Nullable String key,
+      final MessageTemplates.TwoArgTemplate messageTemplate,
+      final @Nullable String value) {
+    if (messageTemplate == null) {
+      throw new IllegalArgumentException("`messageTemplate` MUST NOT be `null`");
+    }
+    return add(messageTemplate, key, value);
+  }
+
+  /**
+   * Returns whether there are no violations.
+   *
+   * @return whether there are no violations.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of violations.
+   *
+   * @return the number of violations.
+   * @since 0.7.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Throws an {@code exceptionClass}-instance of all violations, if there are any.
+   *
+   * @param exceptionClass to instantiate.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @throws C if there are any violations.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @see #build(Class)
+   * @since 0.7.0
+   */
+  public <C extends Exception> void throwIfAny(final Class<C> exceptionClass) throws C {
+    if (!isEmpty()) {
+      throw build(exceptionClass);
+    }
+  }
+
+  /**
+   * Builds an {@code exceptionClass}-instance of all violations. The {@code message} is the
+   * formatted message of each violation, separated by {@code "; "}.
+   *
+   * @param exceptionClass to instantiate.
+   * @return a new {@code exceptionClass}-instance.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @throws IllegalStateException if there are no violations.
+   * @since 0.7.0
+   */
+  @Contract("null -> fail; _ -> new")
+  public <C extends Exception> C build(final Class<C> exceptionClass) {
+    return build(exceptionClass, false);
+  }
+
+  /**
+   * Builds an {@code exceptionClass}-instance of all violations. The {@code message} is the
+   * formatted message of each violation, separated by {@code "; "}.
+   *
+   * <p>If {@code suppressed}, each violation is also added as a <em>stackless</em> {@link
+   * Throwable#addSuppressed(Throwable) suppressed} {@code exceptionClass}-instance.
+   *
+   * @param exceptionClass to instantiate.
+   * @param suppressed whether to add each violation as a suppressed exception.
+   * @return a new {@code exceptionClass}-instance.
+   * @param <C> {@link Exception}-class to instantiate.
+   * @throws IllegalArgumentException if {@code exceptionClass} is {@code null}, or does not have a
+   *     {@code (String, Throwable)} constructor.
+   * @throws IllegalStateException if there are no violations.
+   * @since 0.7.0
+   */
+  @Contract("null, _ -> fail; _, _ -> new")
+  public <C extends Exception> C build(final Class<C> exceptionClass, final boolean suppressed) {
+    final var exceptionConstructor = ExceptionConstructor.require(exceptionClass);
+    if (isEmpty()) {
+      throw ExceptionFactory.illegalStateOf("violations", MUST_NOT_BE_EMPTY);
+    }
+    final var messages = new String[size];
+    var length = SEPARATOR.length() * (size - 1);
+    for (var i = 0; i < size; i++) {
+      messages[i] = format(i);
+      length += messages[i].length();
+    }
+    final var message = new StringBuilder(length).append(messages[0]);
+    for (var i = 1; i < size; i++) {
+      message.append(SEPARATOR).append(messages[i]);
+    }
+    ExceptionMetrics.record(exceptionClass, null);
+    final var exception = exceptionConstructor.newInstance(message.toString(), null);
+    if (suppressed) {
+      for (final var violationMessage : messages) {
+        exception.addSuppressed(exceptionConstructor.newStacklessInstance(violationMessage, null));
+      }
+    }
+    return ExceptionFactory.report(exception);
+  }
+
+  /**
+   * Adds a violation, growing the arrays of violations if needed.
+   *
+   * @param messageTemplate of the violation.
+   * @param key of the violation.
+   * @param value of the violation.
+   * @return <em>this</em> {@link Violations}.
+   */
+  private Violations add(
+      final Enum<?> messageTemplate, final @Nullable String key, final @Nullable String value) {
+    if (size == messageTemplates.length) {
+      final var capacity = size * 2;
+      messageTemplates = Arrays.copyOf(messageTemplates, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    messageTemplates[size] = messageTemplate;
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  /**
+   * Formats the message of the violation at {@code index}.
+   *
+   * @param index of the violation.
+   * @return the formatted message.
+   */
+  private String format(final int index) {
+    if (messageTemplates[index] instanceof MessageTemplates.OneArgTemplate oneArgTemplate) {
+      return oneArgTemplate.format(keys[index]);
+    }
+    return ((MessageTemplates.TwoArgTemplate) messageTemplates[index])
+        .format(keys[index], values[index]);
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledTemplateTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "test", "%s", "%%"})
+  @NullSource
+  void testOneArg(final String arg) {
+    final var template = "`%s` 100%% MUST be `%%s`";
+    assertEquals(String.format(template, arg), CompiledTemplate.compile(template, 1).format(arg));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "test", "%s", "%%"})
+  @NullSource
+  void testTwoArgs(final String arg) {
+    final var template = "%s`%s`";
+    assertEquals(
+        String.format(template, arg, "test"),
+        CompiledTemplate.compile(template, 2).format(arg, "test"));
+    assertEquals(
+        String.format(template, "test", arg),
+        CompiledTemplate.compile(template, 2).format("test", arg));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"%d", "%s %s", "no specifier", "trailing %", "%n"})
+  void testInvalidOneArgTemplate(final String template) {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile(template, 1));
+    assertEquals("`template` MUST only contain 1 `%s` format specifier(s)", exception.getMessage());
+  }
+
+  @Test
+  void testInvalidTwoArgTemplate() {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("%s", 2));
+    assertEquals("`template` MUST only contain 2 `%s` format specifier(s)", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplates(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    assertEquals(String.format(oneArgTemplate.getTemplate(), "key"), oneArgTemplate.format("key"));
+    assertEquals(
+        String.format(oneArgTemplate.getTemplate(), (String) null), oneArgTemplate.format(null));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplates(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    assertEquals(
+        String.format(twoArgTemplate.getTemplate(), "key", "value"),
+        twoArgTemplate.format("key", "value"));
+    assertEquals(
+        String.format(twoArgTemplate.getTemplate(), null, null), twoArgTemplate.format(null, null));
+  }
+}
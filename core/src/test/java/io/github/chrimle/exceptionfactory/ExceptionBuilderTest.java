@@ -0,0 +1,498 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionBuilderTest {
+
+  @Test
+  void testNullClass() {
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> ExceptionBuilder.of(null));
+    assertEquals("`exceptionClass` is `null`", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(classes = {NullPointerException.class})
+  void testUnsupportedClasses(final Class<? extends Exception> exceptionUnderTest) {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> ExceptionBuilder.of(exceptionUnderTest));
+    assertEquals(
+        "`exceptionClass` does NOT have a (`String, Throwable`) constructor",
+        exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        IllegalArgumentException.class,
+        UnsupportedOperationException.class,
+        IllegalStateException.class,
+        RuntimeException.class
+      })
+  void testEmptyException(final Class<? extends Exception> exceptionToBuild) {
+    final var exceptionBuilder = assertDoesNotThrow(() -> ExceptionBuilder.of(exceptionToBuild));
+    final var exception = assertDoesNotThrow(exceptionBuilder::build);
+    assertNotNull(exception);
+    assertEquals(exceptionToBuild, exception.getClass());
+  }
+
+  @Nested
+  class SetMessageTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "test"})
+    @NullSource
+    void testSetMessageMethod(final String message) {
+      final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+      assertDoesNotThrow(() -> exceptionBuilder.setMessage(message));
+      final var exception = assertDoesNotThrow(exceptionBuilder::build);
+      assertEquals(message, exception.getMessage());
+    }
+
+    @Nested
+    class OneMessageArgTests {
+
+      @ParameterizedTest
+      @ValueSource(strings = {"", "test"})
+      @NullSource
+      void testOneMessageArg(final String messageArg) {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        assertDoesNotThrow(
+            () -> exceptionBuilder.setMessage("this is a %s"::formatted, messageArg));
+        final var exception = assertDoesNotThrow(exceptionBuilder::build);
+        assertEquals("this is a %s".formatted(messageArg), exception.getMessage());
+      }
+
+      @Test
+      void testNullUnaryOperator() {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        @SuppressWarnings({"DataFlowIssue", "NullAway"})
+        final var exception =
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> exceptionBuilder.setMessage((UnaryOperator<String>) null, "irrelevant"));
+        assertEquals("`messageBuilder` MUST NOT be `null`", exception.getMessage());
+      }
+    }
+
+    @Nested
+    class TwoMessageArgsTests {
+
+      @ParameterizedTest
+      @ValueSource(strings = {"", "test"})
+      @NullSource
+      void testTwoMessageArgs(final String messageArg) {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        assertDoesNotThrow(
+            () ->
+                exceptionBuilder.setMessage("this is a %s %s"::formatted, messageArg, messageArg));
+        final var exception = assertDoesNotThrow(exceptionBuilder::build);
+        assertEquals("this is a %s %s".formatted(messageArg, messageArg), exception.getMessage());
+      }
+
+      @Test
+      void testNullBiFunction() {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        @SuppressWarnings({"DataFlowIssue", "NullAway"})
+        final var exception =
+            assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    exceptionBuilder.setMessage(
+                        (BiFunction<String, String, String>) null,
+                        "irrelevant",
+                        "also irrelevant"));
+        assertEquals("`messageBuilder` MUST NOT be `null`", exception.getMessage());
+      }
+    }
+
+    @Nested
+    class FormattedStringTests {
+
+      @Test
+      void testNull() {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        @SuppressWarnings({"DataFlowIssue", "NullAway"})
+        final var exception =
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> exceptionBuilder.setMessage((String) null, "irrelevant", "also irrelevant"));
+        assertEquals("`formattedString` MUST NOT be `null`", exception.getMessage());
+      }
+
+      @ParameterizedTest
+      @ValueSource(strings = {"", "test"})
+      @NullSource
+      void testOneArg(final String messageArg) {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        assertDoesNotThrow(() -> exceptionBuilder.setMessage("this is a %s", messageArg));
+        final var exception = assertDoesNotThrow(exceptionBuilder::build);
+        assertEquals("this is a %s".formatted(messageArg), exception.getMessage());
+      }
+
+      @ParameterizedTest
+      @ValueSource(strings = {"", "test"})
+      @NullSource
+      void testTwoArgs(final String messageArg) {
+        final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+        assertDoesNotThrow(
+            () -> exceptionBuilder.setMessage("this is a %s %s", messageArg, messageArg));
+        final var exception = assertDoesNotThrow(exceptionBuilder::build);
+        assertEquals("this is a %s %s".formatted(messageArg, messageArg), exception.getMessage());
+      }
+    }
+
+    @Nested
+    class MessageTemplateTests {
+
+      @Nested
+      class OneArgTests {
+
+        @Test
+        void testNull() {
+          final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+          @SuppressWarnings({"DataFlowIssue", "NullAway"})
+          final var exception =
+              assertThrows(
+                  IllegalArgumentException.class,
+                  () ->
+                      exceptionBuilder.setMessage(
+                          (MessageTemplates.OneArgTemplate) null, "irrelevant"));
+          assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MessageTemplates.OneArgTemplate.class)
+        void testOneArgs(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+          final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+          assertDoesNotThrow(() -> exceptionBuilder.setMessage(oneArgTemplate, "test"));
+          final var exception = assertDoesNotThrow(exceptionBuilder::build);
+          assertEquals(oneArgTemplate.getTemplate().formatted("test"), exception.getMessage());
+        }
+      }
+
+      @Nested
+      class TwoArgTests {
+
+        @Test
+        void testNull() {
+          final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+          @SuppressWarnings({"DataFlowIssue", "NullAway"})
+          final var exception =
+              assertThrows(
+                  IllegalArgumentException.class,
+                  () ->
+                      exceptionBuilder.setMessage(
+                          (MessageTemplates.TwoArgTemplate) null, "irrelevant", "also irrelevant"));
+          assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MessageTemplates.TwoArgTemplate.class)
+        void testTwoArgs(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+          final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+          assertDoesNotThrow(() -> exceptionBuilder.setMessage(twoArgTemplate, "test1", "test2"));
+          final var exception = assertDoesNotThrow(exceptionBuilder::build);
+          assertEquals(
+              twoArgTemplate.getTemplate().formatted("test1", "test2"), exception.getMessage());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testSetMessagePrimitive() {
+    final var exception =
+        ExceptionBuilder.of(Exception.class)
+            .setMessage(MessageTemplates.TwoArgTemplate.MUST_BE_AT_LEAST, "test", 0.5)
+            .build();
+    assertEquals(
+        MessageTemplates.TwoArgTemplate.MUST_BE_AT_LEAST.format("test", "0.5"),
+        exception.getMessage());
+  }
+
+  @Test
+  void testSetCauseMethodNull() {
+    final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+    assertDoesNotThrow(() -> exceptionBuilder.setCause(null));
+    final var exception = assertDoesNotThrow(exceptionBuilder::build);
+    assertNull(exception.getCause());
+  }
+
+  @Test
+  void testSetCauseMethod() {
+    final var cause = new Exception("testSetCauseMethod");
+    final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+    assertDoesNotThrow(() -> exceptionBuilder.setCause(cause));
+    final var exception = assertDoesNotThrow(exceptionBuilder::build);
+    assertEquals(cause, exception.getCause());
+  }
+
+  @Nested
+  class StacklessTests {
+
+    @ParameterizedTest
+    @ValueSource(
+        classes = {
+          Exception.class,
+          IllegalArgumentException.class,
+          UnsupportedOperationException.class,
+          IllegalStateException.class,
+          RuntimeException.class
+        })
+    void testStacklessSubClass(final Class<? extends Exception> exceptionToBuild) {
+      final var cause = new Exception("cause");
+      final var exception =
+          assertDoesNotThrow(
+              () ->
+                  ExceptionBuilder.of(exceptionToBuild)
+                      .setMessage("message")
+                      .setCause(cause)
+                      .setStackless(true)
+                      .build());
+      assertInstanceOf(exceptionToBuild, exception);
+      assertEquals("message", exception.getMessage());
+      assertSame(cause, exception.getCause());
+      assertEquals(0, exception.getStackTrace().length);
+      assertEquals(exceptionToBuild.getName() + ": message", exception.toString());
+    }
+
+    @Test
+    void testStacklessConstructor() {
+      final var exception =
+          assertDoesNotThrow(
+              () -> ExceptionBuilder.of(StacklessException.class).setStackless(true).build());
+      assertEquals(StacklessException.class, exception.getClass());
+      assertEquals(0, exception.getStackTrace().length);
+      exception.addSuppressed(new Exception("suppressed"));
+      assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Exception.class, RuntimeException.class})
+    void testStacklessSuppressionDisabled(final Class<? extends Exception> exceptionToBuild) {
+      final var exception = ExceptionBuilder.of(exceptionToBuild).setStackless(true).build();
+      exception.addSuppressed(new Exception("suppressed"));
+      assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        classes = {
+          IllegalArgumentException.class,
+          IllegalStateException.class,
+          UnsupportedOperationException.class
+        })
+    void testStacklessSuppressionEnabled(final Class<? extends Exception> exceptionToBuild) {
+      final var exception = ExceptionBuilder.of(exceptionToBuild).setStackless(true).build();
+      exception.addSuppressed(new Exception("suppressed"));
+      assertEquals(1, exception.getSuppressed().length);
+    }
+
+    @Test
+    void testStacklessFallback() {
+      final var exception =
+          assertDoesNotThrow(
+              () -> ExceptionBuilder.of(IllegalCallerException.class).setStackless(true).build());
+      assertEquals(IllegalCallerException.class, exception.getClass());
+      assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testNotStackless() {
+      final var exception =
+          assertDoesNotThrow(
+              () ->
+                  ExceptionBuilder.of(IllegalArgumentException.class).setStackless(false).build());
+      assertEquals(IllegalArgumentException.class, exception.getClass());
+      assertNotEquals(0, exception.getStackTrace().length);
+    }
+  }
+
+  @Nested
+  class StackTraceDepthTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    void testStackTraceDepth(final int maxDepth) {
+      final var exception =
+          ExceptionBuilder.of(IllegalArgumentException.class).setStackTraceDepth(maxDepth).build();
+      assertEquals(maxDepth, exception.getStackTrace().length);
+      for (final var stackTraceElement : exception.getStackTrace()) {
+        assertNotEquals(ExceptionBuilder.class.getName(), stackTraceElement.getClassName());
+      }
+      if (maxDepth > 0) {
+        final var topStackTraceElement = exception.getStackTrace()[0];
+        assertEquals(StackTraceDepthTests.class.getName(), topStackTraceElement.getClassName());
+        assertEquals("testStackTraceDepth", topStackTraceElement.getMethodName());
+      }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        classes = {
+          Exception.class,
+          IllegalArgumentException.class,
+          UnsupportedOperationException.class,
+          IllegalStateException.class,
+          RuntimeException.class,
+          IllegalCallerException.class
+        })
+    void testStackTraceDepthOfExceptionClass(final Class<? extends Exception> exceptionToBuild) {
+      final var exception =
+          ExceptionBuilder.of(exceptionToBuild).setMessage("message").setStackTraceDepth(1).build();
+      assertEquals(exceptionToBuild, exception.getClass());
+      assertEquals(1, exception.getStackTrace().length);
+      exception.fillInStackTrace();
+      assertTrue(exception.getStackTrace().length > 1);
+    }
+
+    @Test
+    void testStackTraceDepthWhenStackless() {
+      final var exception =
+          ExceptionBuilder.of(IllegalArgumentException.class)
+              .setStackTraceDepth(1)
+              .setStackless(true)
+              .build();
+      assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testNegativeStackTraceDepth() {
+      final var exceptionBuilder = ExceptionBuilder.of(IllegalArgumentException.class);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> exceptionBuilder.setStackTraceDepth(-1));
+      assertEquals("`maxDepth` MUST NOT be negative", exception.getMessage());
+    }
+  }
+
+  @Nested
+  class ReusableTests {
+
+    @Test
+    void testReset() {
+      final var exceptionBuilder =
+          ExceptionBuilder.of(IllegalStateException.class)
+              .setMessage(MessageTemplates.OneArgTemplate.MUST_EXIST, "key")
+              .setCause(new RuntimeException())
+              .setStackless(true);
+      assertSame(exceptionBuilder, exceptionBuilder.reset());
+      final var exception = exceptionBuilder.build();
+      assertNull(exception.getMessage());
+      assertNull(exception.getCause());
+      assertEquals(IllegalStateException.class, exception.getClass());
+      assertNotEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testReusableIsReusedAndReset() {
+      final var exceptionBuilder =
+          ExceptionBuilder.reusable(IllegalArgumentException.class).setMessage("first");
+      assertEquals("first", exceptionBuilder.build().getMessage());
+      final var reusedExceptionBuilder = ExceptionBuilder.reusable(IllegalArgumentException.class);
+      assertSame(exceptionBuilder, reusedExceptionBuilder);
+      assertNull(reusedExceptionBuilder.build().getMessage());
+    }
+
+    @Test
+    void testReusableDoesNotRetainMessageAndCause() {
+      final var cause = new RuntimeException();
+      final var exceptionBuilder =
+          ExceptionBuilder.reusable(IllegalArgumentException.class)
+              .setMessage("message")
+              .setCause(cause)
+              .setStackless(true);
+      final var exception = exceptionBuilder.build();
+      assertEquals("message", exception.getMessage());
+      assertSame(cause, exception.getCause());
+      final var nextException = exceptionBuilder.build();
+      assertNull(nextException.getMessage());
+      assertNull(nextException.getCause());
+      assertEquals(0, nextException.getStackTrace().length);
+    }
+
+    @Test
+    void testBuilderRetainsMessageAndCause() {
+      final var cause = new RuntimeException();
+      final var exceptionBuilder =
+          ExceptionBuilder.of(IllegalArgumentException.class).setMessage("message").setCause(cause);
+      exceptionBuilder.build();
+      final var exception = exceptionBuilder.build();
+      assertEquals("message", exception.getMessage());
+      assertSame(cause, exception.getCause());
+    }
+
+    @Test
+    void testReusableWithoutConstructor() {
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> ExceptionBuilder.reusable(NoConstructorException.class));
+      assertEquals(
+          "`exceptionClass` does NOT have a (`String, Throwable`) constructor",
+          exception.getMessage());
+    }
+
+    @Test
+    void testReusableIsThreadConfined() throws InterruptedException {
+      final var exceptionBuilder = ExceptionBuilder.reusable(IllegalArgumentException.class);
+      final var otherExceptionBuilder = new AtomicReference<ExceptionBuilder<?>>();
+      final var thread =
+          new Thread(
+              () ->
+                  otherExceptionBuilder.set(
+                      ExceptionBuilder.reusable(IllegalArgumentException.class)));
+      thread.start();
+      thread.join();
+      assertNotNull(otherExceptionBuilder.get());
+      assertNotSame(exceptionBuilder, otherExceptionBuilder.get());
+    }
+
+    @Test
+    void testReusableIsPerClass() {
+      assertNotSame(
+          ExceptionBuilder.reusable(IllegalArgumentException.class),
+          ExceptionBuilder.reusable(IllegalStateException.class));
+    }
+
+    @Test
+    void testReusableNullClass() {
+      @SuppressWarnings({"DataFlowIssue", "NullAway"})
+      final var exception =
+          assertThrows(IllegalArgumentException.class, () -> ExceptionBuilder.reusable(null));
+      assertEquals("`exceptionClass` is `null`", exception.getMessage());
+    }
+  }
+
+  static final class StacklessException extends Exception {
+    public StacklessException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+
+    public StacklessException(
+        final String message,
+        final Throwable cause,
+        final boolean enableSuppression,
+        final boolean writableStackTrace) {
+      super(message, cause, enableSuppression, writableStackTrace);
+    }
+  }
+
+  static final class NoConstructorException extends Exception {
+    public NoConstructorException(final String message) {
+      super(message);
+    }
+  }
+}
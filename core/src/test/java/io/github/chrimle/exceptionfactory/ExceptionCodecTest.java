@@ -0,0 +1,194 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionCodecTest {
+
+  private static final ExceptionCodec CODEC =
+      ExceptionCodec.of(
+          List.of(
+              Exception.class,
+              RuntimeException.class,
+              IllegalArgumentException.class,
+              IllegalStateException.class));
+
+  private static Exception roundTrip(final ExceptionCodec codec, final Exception exception) {
+    final var buffer = ByteBuffer.allocate(64 * 1024);
+    codec.encode(exception, buffer);
+    buffer.flip();
+    final var decodedException = codec.decode(buffer);
+    assertFalse(buffer.hasRemaining());
+    return decodedException;
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "", "message", "`key` MUST NOT be `null`", "\u00e5\u00e4\u00f6 \u20ac", "\uD83D\uDE00"
+      })
+  void testPlainMessage(final String message) {
+    final var decodedException = roundTrip(CODEC, new IllegalStateException(message));
+    assertEquals(IllegalStateException.class, decodedException.getClass());
+    assertEquals(message, decodedException.getMessage());
+    assertNull(decodedException.getCause());
+    assertEquals(0, decodedException.getStackTrace().length);
+  }
+
+  @Test
+  void testNullMessage() {
+    assertNull(roundTrip(CODEC, new RuntimeException((String) null)).getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplate(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception = ExceptionFactory.lazyIllegalArgumentOf("key", oneArgTemplate);
+    final var decodedException = roundTrip(CODEC, exception);
+    assertEquals(IllegalArgumentException.class, decodedException.getClass());
+    assertEquals(oneArgTemplate.format("key"), decodedException.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplate(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception = ExceptionFactory.lazyIllegalStateOf("key", twoArgTemplate, null);
+    final var decodedException = roundTrip(CODEC, exception);
+    assertEquals(IllegalStateException.class, decodedException.getClass());
+    assertEquals(twoArgTemplate.format("key", null), decodedException.getMessage());
+  }
+
+  @Test
+  void testCauseChain() {
+    final var exception =
+        new IllegalStateException(
+            "outer",
+            new IllegalArgumentException("middle", new UnsupportedOperationException("inner")));
+    final var decodedException = roundTrip(CODEC, exception);
+    assertEquals("outer", decodedException.getMessage());
+    final var middle = decodedException.getCause();
+    assertEquals(IllegalArgumentException.class, middle.getClass());
+    assertEquals("middle", middle.getMessage());
+    final var inner = middle.getCause();
+    // Unregistered classes are decoded as their nearest registered super-class.
+    assertEquals(RuntimeException.class, inner.getClass());
+    assertEquals("inner", inner.getMessage());
+    assertNull(inner.getCause());
+  }
+
+  @Test
+  void testErrorCauseIsNotEncoded() {
+    final var exception = new IllegalStateException("outer", new AssertionError());
+    assertNull(roundTrip(CODEC, exception).getCause());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 1000})
+  void testStackTrace(final int maxStackTraceDepth) {
+    final var exception = ExceptionFactory.illegalArgumentOf("key", MUST_NOT_BE_NULL);
+    final var decodedException =
+        roundTrip(CODEC.withMaxStackTraceDepth(maxStackTraceDepth), exception);
+    final var stackTrace = exception.getStackTrace();
+    final var decodedStackTrace = decodedException.getStackTrace();
+    assertEquals(IllegalArgumentException.class, decodedException.getClass());
+    assertEquals(Math.min(maxStackTraceDepth, stackTrace.length), decodedStackTrace.length);
+    for (var i = 0; i < decodedStackTrace.length; i++) {
+      assertEquals(stackTrace[i].getClassName(), decodedStackTrace[i].getClassName());
+      assertEquals(stackTrace[i].getMethodName(), decodedStackTrace[i].getMethodName());
+      assertEquals(stackTrace[i].getFileName(), decodedStackTrace[i].getFileName());
+      assertEquals(stackTrace[i].getLineNumber(), decodedStackTrace[i].getLineNumber());
+    }
+  }
+
+  @Test
+  void testDecodingIsNotRecordedNorReported() {
+    final var buffer = ByteBuffer.allocate(1024);
+    CODEC.encode(new IllegalStateException("outer", new IllegalArgumentException("inner")), buffer);
+    buffer.flip();
+    final var reported = new ArrayList<Exception>();
+    ExceptionMetrics.enable();
+    ExceptionMetrics.reset();
+    ExceptionFactory.setExceptionSink(reported::add);
+    try {
+      CODEC.decode(buffer);
+      assertTrue(
+          ExceptionMetrics.snapshot().exceptionClasses().values().stream()
+              .allMatch(count -> count == 0L));
+      assertTrue(reported.isEmpty());
+    } finally {
+      ExceptionFactory.setExceptionSink(null);
+      ExceptionMetrics.disable();
+      ExceptionMetrics.reset();
+    }
+  }
+
+  @Test
+  void testSmallerThanJavaSerialization() throws IOException {
+    final var exception =
+        ExceptionFactory.lazyIllegalArgumentOf("limit", MUST_BE_AT_MOST, "100");
+    final var buffer = ByteBuffer.allocate(1024);
+    CODEC.withMaxStackTraceDepth(8).encode(exception, buffer);
+    final var bytes = new ByteArrayOutputStream();
+    try (final var objectOutputStream = new ObjectOutputStream(bytes)) {
+      objectOutputStream.writeObject(exception);
+    }
+    assertTrue(buffer.position() * 2 < bytes.size());
+  }
+
+  @Test
+  void testUnregisteredClass() {
+    final var codec = ExceptionCodec.of(List.of(IllegalArgumentException.class));
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> codec.encode(new IllegalStateException(), ByteBuffer.allocate(64)));
+    assertEquals("`exception` MUST be an instance of a registered class", exception.getMessage());
+  }
+
+  @Test
+  void testInsufficientBuffer() {
+    assertThrows(
+        BufferOverflowException.class,
+        () -> CODEC.encode(new IllegalStateException("message"), ByteBuffer.allocate(4)));
+  }
+
+  @Test
+  void testUnsupportedFormatVersion() {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CODEC.decode(ByteBuffer.wrap(new byte[] {(byte) 0xFF, 0, 0, 0, 0})));
+    assertEquals("`buffer` MUST contain a supported format version", exception.getMessage());
+  }
+
+  @Test
+  void testStackTraceDepthExceedingBuffer() {
+    final var buffer =
+        ByteBuffer.wrap(
+            new byte[] {1, 0, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    final var exception = assertThrows(IllegalArgumentException.class, () -> CODEC.decode(buffer));
+    assertEquals("`buffer` MUST contain a valid stack trace depth", exception.getMessage());
+  }
+
+  @Test
+  void testDuplicateClasses() {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ExceptionCodec.of(List.of(Exception.class, Exception.class)));
+    assertEquals("`exceptionClasses` MUST NOT contain duplicates", exception.getMessage());
+  }
+}
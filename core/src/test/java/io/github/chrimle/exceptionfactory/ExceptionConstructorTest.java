@@ -0,0 +1,116 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.time.DateTimeException;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionConstructorTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        Exception.class,
+        IllegalArgumentException.class,
+        IllegalStateException.class,
+        RuntimeException.class
+      })
+  void testConstructorIsCached(final Class<? extends Exception> exceptionClass) {
+    final var exceptionConstructor = ExceptionConstructor.of(exceptionClass);
+    assertNotNull(exceptionConstructor);
+    assertSame(exceptionConstructor, ExceptionConstructor.of(exceptionClass));
+    assertEquals(exceptionClass, exceptionConstructor.getExceptionClass());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        Exception.class,
+        RuntimeException.class,
+        IllegalArgumentException.class,
+        IllegalStateException.class,
+        UnsupportedOperationException.class,
+        SecurityException.class,
+        ConcurrentModificationException.class,
+        NoSuchElementException.class,
+        DateTimeException.class,
+        IOException.class
+      })
+  void testJdkConstructors(final Class<? extends Exception> exceptionClass) {
+    final var cause = new Exception("cause");
+    final var exceptionConstructor = ExceptionConstructor.of(exceptionClass);
+    assertNotNull(exceptionConstructor);
+    final var exception = exceptionConstructor.newInstance("message", cause);
+    assertEquals(exceptionClass, exception.getClass());
+    assertEquals("message", exception.getMessage());
+    assertSame(cause, exception.getCause());
+    assertNotEquals(0, exception.getStackTrace().length);
+    final var stacklessException = exceptionConstructor.newStacklessInstance("message", cause);
+    assertInstanceOf(exceptionClass, stacklessException);
+    assertEquals("message", stacklessException.getMessage());
+    assertSame(cause, stacklessException.getCause());
+    assertEquals(0, stacklessException.getStackTrace().length);
+    final var exceptionWithoutStackTrace =
+        exceptionConstructor.newInstanceWithoutStackTrace("message", cause);
+    assertEquals(exceptionClass, exceptionWithoutStackTrace.getClass());
+    assertEquals("message", exceptionWithoutStackTrace.getMessage());
+    assertSame(cause, exceptionWithoutStackTrace.getCause());
+    assertEquals(0, exceptionWithoutStackTrace.getStackTrace().length);
+  }
+
+  @Test
+  void testMissingConstructor() {
+    assertNull(ExceptionConstructor.of(NullPointerException.class));
+  }
+
+  @Test
+  void testNewInstance() {
+    final var cause = new Exception("cause");
+    final var exceptionConstructor = ExceptionConstructor.of(IllegalArgumentException.class);
+    assertNotNull(exceptionConstructor);
+    final var exception = exceptionConstructor.newInstance("message", cause);
+    assertEquals(IllegalArgumentException.class, exception.getClass());
+    assertEquals("message", exception.getMessage());
+    assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  void testThrowingConstructor() {
+    final var exceptionConstructor = ExceptionConstructor.of(ThrowingException.class);
+    assertNotNull(exceptionConstructor);
+    final var exception =
+        assertThrows(RuntimeException.class, () -> exceptionConstructor.newInstance(null, null));
+    assertEquals("InvocationTargetException", exception.getMessage());
+    final var invocationTargetException =
+        assertInstanceOf(InvocationTargetException.class, exception.getCause());
+    assertInstanceOf(UnsupportedOperationException.class, invocationTargetException.getCause());
+  }
+
+  @Test
+  void testAbstractClass() {
+    final var exceptionConstructor = ExceptionConstructor.of(AbstractException.class);
+    assertNotNull(exceptionConstructor);
+    final var exception =
+        assertThrows(RuntimeException.class, () -> exceptionConstructor.newInstance(null, null));
+    assertEquals("InstantiationException", exception.getMessage());
+  }
+
+  static final class ThrowingException extends Exception {
+    public ThrowingException(final String message, final Throwable cause) {
+      super(message, cause);
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  abstract static class AbstractException extends Exception {
+    public AbstractException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
@@ -0,0 +1,382 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionFactoryTest {
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgIllegalArgumentOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.illegalArgumentOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgIllegalArgumentOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () -> ExceptionFactory.illegalArgumentOf("testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgIllegalStateOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.illegalStateOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgIllegalStateOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () -> ExceptionFactory.illegalStateOf("testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgStacklessIllegalArgumentOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () -> ExceptionFactory.stacklessIllegalArgumentOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgStacklessIllegalArgumentOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () ->
+                ExceptionFactory.stacklessIllegalArgumentOf(
+                    "testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgStacklessIllegalStateOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.stacklessIllegalStateOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgStacklessIllegalStateOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () ->
+                ExceptionFactory.stacklessIllegalStateOf("testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgLazyIllegalArgumentOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.lazyIllegalArgumentOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertSame(exception.getMessage(), exception.getMessage());
+    assertEquals(
+        IllegalArgumentException.class.getName() + ": " + oneArgTemplate.format("test"),
+        exception.toString());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgLazyIllegalArgumentOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () -> ExceptionFactory.lazyIllegalArgumentOf("testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertSame(exception.getMessage(), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgLazyIllegalStateOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.lazyIllegalStateOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertEquals(
+        IllegalStateException.class.getName() + ": " + oneArgTemplate.format("test"),
+        exception.toString());
+    assertInstanceOf(IllegalStateException.class, exception);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgLazyIllegalStateOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(
+            () -> ExceptionFactory.lazyIllegalStateOf("testKey", twoArgTemplate, "testValue"));
+    assertNotNull(exception);
+    assertEquals(twoArgTemplate.format("testKey", "testValue"), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+  }
+
+  @Test
+  void testLazyNullMessageTemplate() {
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                ExceptionFactory.lazyIllegalStateOf(
+                    "testKey", (MessageTemplates.TwoArgTemplate) null, "testValue"));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testSharedIllegalArgumentOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.sharedIllegalArgumentOf("test", oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception);
+    assertSame(exception, ExceptionFactory.sharedIllegalArgumentOf("test", oneArgTemplate));
+    assertNotSame(exception, ExceptionFactory.sharedIllegalArgumentOf("other", oneArgTemplate));
+    assertNotSame(exception, ExceptionFactory.sharedIllegalStateOf("test", oneArgTemplate));
+    exception.setStackTrace(new Throwable().getStackTrace());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testSharedIllegalStateOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception =
+        assertDoesNotThrow(() -> ExceptionFactory.sharedIllegalStateOf(null, oneArgTemplate));
+    assertNotNull(exception);
+    assertEquals(oneArgTemplate.format(null), exception.getMessage());
+    assertInstanceOf(IllegalStateException.class, exception);
+    assertSame(exception, ExceptionFactory.sharedIllegalStateOf(null, oneArgTemplate));
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void testSharedImmutable() {
+    final var exception =
+        ExceptionFactory.shared(
+            RuntimeException.class, "test", MessageTemplates.OneArgTemplate.MUST_EXIST);
+    assertSame(
+        exception,
+        ExceptionFactory.shared(
+            RuntimeException.class, "test", MessageTemplates.OneArgTemplate.MUST_EXIST));
+    exception.addSuppressed(new Exception("suppressed"));
+    assertEquals(0, exception.getSuppressed().length);
+    assertThrows(IllegalStateException.class, () -> exception.initCause(new Exception()));
+    assertNull(exception.getCause());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        Exception.class,
+        RuntimeException.class,
+        IllegalArgumentException.class,
+        IllegalStateException.class,
+        UnsupportedOperationException.class
+      })
+  void testSharedSuppressionDisabled(final Class<? extends Exception> exceptionClass) {
+    final var exception =
+        ExceptionFactory.shared(
+            exceptionClass, "suppressed", MessageTemplates.OneArgTemplate.MUST_EXIST);
+    assertInstanceOf(exceptionClass, exception);
+    assertEquals(
+        MessageTemplates.OneArgTemplate.MUST_EXIST.format("suppressed"), exception.getMessage());
+    exception.addSuppressed(new Exception("suppressed"));
+    assertEquals(0, exception.getSuppressed().length);
+    exception.setStackTrace(new Throwable().getStackTrace());
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals(exceptionClass.getName() + ": " + exception.getMessage(), exception.toString());
+    assertSame(
+        exception,
+        ExceptionFactory.shared(
+            exceptionClass, "suppressed", MessageTemplates.OneArgTemplate.MUST_EXIST));
+  }
+
+  @Test
+  void testSharedWithoutStacklessConstructor() {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                ExceptionFactory.shared(
+                    IllegalCallerException.class,
+                    "test",
+                    MessageTemplates.OneArgTemplate.MUST_EXIST));
+    assertEquals(
+        "`exceptionClass` does NOT have a (`String, Throwable, boolean, boolean`) constructor",
+        exception.getMessage());
+  }
+
+  @Test
+  void testSharedNullArguments() {
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var nullClassException =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                ExceptionFactory.shared(null, "test", MessageTemplates.OneArgTemplate.MUST_EXIST));
+    assertEquals("`exceptionClass` is `null`", nullClassException.getMessage());
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var nullTemplateException =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ExceptionFactory.shared(RuntimeException.class, "test", null));
+    assertEquals("`messageTemplate` MUST NOT be `null`", nullTemplateException.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testIllegalArgumentSupplierOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var supplier = ExceptionFactory.illegalArgumentSupplierOf("test", oneArgTemplate);
+    assertSame(supplier, ExceptionFactory.illegalArgumentSupplierOf("test", oneArgTemplate));
+    final var exception = supplier.get();
+    assertEquals(IllegalArgumentException.class, exception.getClass());
+    assertEquals(oneArgTemplate.format("test"), exception.getMessage());
+    assertNotSame(exception, supplier.get());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testIllegalStateSupplierOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var supplier = ExceptionFactory.illegalStateSupplierOf(null, oneArgTemplate);
+    assertSame(supplier, ExceptionFactory.illegalStateSupplierOf(null, oneArgTemplate));
+    final var exception = supplier.get();
+    assertEquals(IllegalStateException.class, exception.getClass());
+    assertEquals(oneArgTemplate.format(null), exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgFunctionOf(MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var illegalArgumentFunction = ExceptionFactory.illegalArgumentFunctionOf(oneArgTemplate);
+    assertSame(illegalArgumentFunction, ExceptionFactory.illegalArgumentFunctionOf(oneArgTemplate));
+    assertEquals(oneArgTemplate.format("test"), illegalArgumentFunction.apply("test").getMessage());
+    final var illegalStateFunction = ExceptionFactory.illegalStateFunctionOf(oneArgTemplate);
+    assertSame(illegalStateFunction, ExceptionFactory.illegalStateFunctionOf(oneArgTemplate));
+    assertEquals(oneArgTemplate.format("test"), illegalStateFunction.apply("test").getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgFunctionOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var illegalArgumentFunction =
+        ExceptionFactory.illegalArgumentFunctionOf("test", twoArgTemplate);
+    assertSame(
+        illegalArgumentFunction,
+        ExceptionFactory.illegalArgumentFunctionOf("test", twoArgTemplate));
+    final var illegalArgumentException = illegalArgumentFunction.apply("value");
+    assertEquals(IllegalArgumentException.class, illegalArgumentException.getClass());
+    assertEquals(twoArgTemplate.format("test", "value"), illegalArgumentException.getMessage());
+    final var illegalStateFunction =
+        ExceptionFactory.illegalStateFunctionOf("test", twoArgTemplate);
+    assertSame(
+        illegalStateFunction, ExceptionFactory.illegalStateFunctionOf("test", twoArgTemplate));
+    final var illegalStateException = illegalStateFunction.apply(null);
+    assertEquals(IllegalStateException.class, illegalStateException.getClass());
+    assertEquals(twoArgTemplate.format("test", null), illegalStateException.getMessage());
+  }
+
+  @Test
+  void testSupplierOfDistinctKeys() {
+    assertNotSame(
+        ExceptionFactory.illegalArgumentSupplierOf(
+            "first", MessageTemplates.OneArgTemplate.MUST_EXIST),
+        ExceptionFactory.illegalArgumentSupplierOf(
+            "second", MessageTemplates.OneArgTemplate.MUST_EXIST));
+  }
+
+  @Test
+  void testSupplierOfManyDistinctKeys() {
+    final var messageTemplate = MessageTemplates.OneArgTemplate.MUST_NOT_BE_EMPTY;
+    for (var i = 0; i < 100 * ExceptionSuppliers.CACHE_SIZE; i++) {
+      final var key = "key" + i;
+      assertEquals(
+          messageTemplate.format(key),
+          ExceptionFactory.illegalStateSupplierOf(key, messageTemplate).get().getMessage());
+    }
+    // Evicted keys are cached again.
+    final var supplier = ExceptionFactory.illegalStateSupplierOf("fixed", messageTemplate);
+    assertSame(supplier, ExceptionFactory.illegalStateSupplierOf("fixed", messageTemplate));
+  }
+
+  @Test
+  void testSupplierOfNullMessageTemplate() {
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ExceptionFactory.illegalStateSupplierOf("test", null));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testPrimitiveIllegalArgumentOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    assertEquals(
+        twoArgTemplate.format("test", "42"),
+        ExceptionFactory.illegalArgumentOf("test", twoArgTemplate, 42).getMessage());
+    assertEquals(
+        twoArgTemplate.format("test", "42"),
+        ExceptionFactory.illegalArgumentOf("test", twoArgTemplate, 42L).getMessage());
+    assertEquals(
+        twoArgTemplate.format("test", "4.2"),
+        ExceptionFactory.illegalArgumentOf("test", twoArgTemplate, 4.2).getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testPrimitiveIllegalStateOf(MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception = ExceptionFactory.illegalStateOf("test", twoArgTemplate, -1L);
+    assertEquals(IllegalStateException.class, exception.getClass());
+    assertEquals(twoArgTemplate.format("test", "-1"), exception.getMessage());
+  }
+
+  @Test
+  void testPrimitiveNullMessageTemplate() {
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> ExceptionFactory.illegalStateOf("test", null, 1));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+  }
+}
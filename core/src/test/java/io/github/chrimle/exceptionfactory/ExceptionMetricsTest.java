@@ -0,0 +1,78 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ExceptionMetricsTest {
+
+  @BeforeEach
+  void enable() {
+    ExceptionMetrics.enable();
+    ExceptionMetrics.reset();
+  }
+
+  @AfterEach
+  void disable() {
+    ExceptionMetrics.disable();
+    ExceptionMetrics.reset();
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplate(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    ExceptionFactory.illegalArgumentOf("test", oneArgTemplate);
+    ExceptionFactory.illegalStateOf("test", oneArgTemplate);
+    final var snapshot = ExceptionMetrics.snapshot();
+    assertEquals(2L, snapshot.oneArgTemplates().get(oneArgTemplate));
+    assertEquals(1L, snapshot.exceptionClasses().get(IllegalArgumentException.class.getName()));
+    assertEquals(1L, snapshot.exceptionClasses().get(IllegalStateException.class.getName()));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplate(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    ExceptionFactory.lazyIllegalArgumentOf("test", twoArgTemplate, "value");
+    ExceptionBuilder.of(RuntimeException.class).setMessage(twoArgTemplate, "test", "value").build();
+    final var snapshot = ExceptionMetrics.snapshot();
+    assertEquals(2L, snapshot.twoArgTemplates().get(twoArgTemplate));
+    assertEquals(1L, snapshot.exceptionClasses().get(IllegalArgumentException.class.getName()));
+    assertEquals(1L, snapshot.exceptionClasses().get(RuntimeException.class.getName()));
+  }
+
+  @Test
+  void testWithoutTemplate() {
+    ExceptionBuilder.of(Exception.class)
+        .setMessage(MessageTemplates.OneArgTemplate.MUST_EXIST, "test")
+        .setMessage("message")
+        .build();
+    final var snapshot = ExceptionMetrics.snapshot();
+    assertEquals(1L, snapshot.exceptionClasses().get(Exception.class.getName()));
+    assertEquals(0L, snapshot.oneArgTemplates().get(MessageTemplates.OneArgTemplate.MUST_EXIST));
+  }
+
+  @Test
+  void testSnapshotThenReset() {
+    ExceptionFactory.illegalArgumentOf("test", MessageTemplates.OneArgTemplate.MUST_EXIST);
+    final var snapshot = ExceptionMetrics.snapshotThenReset();
+    assertEquals(1L, snapshot.oneArgTemplates().get(MessageTemplates.OneArgTemplate.MUST_EXIST));
+    assertEquals(
+        0L,
+        ExceptionMetrics.snapshot()
+            .oneArgTemplates()
+            .get(MessageTemplates.OneArgTemplate.MUST_EXIST));
+  }
+
+  @Test
+  void testDisabled() {
+    ExceptionMetrics.disable();
+    assertFalse(ExceptionMetrics.isEnabled());
+    ExceptionFactory.illegalArgumentOf("test", MessageTemplates.OneArgTemplate.MUST_EXIST);
+    final var snapshot = ExceptionMetrics.snapshot();
+    assertEquals(0L, snapshot.oneArgTemplates().get(MessageTemplates.OneArgTemplate.MUST_EXIST));
+  }
+}
@@ -0,0 +1,256 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionSinkTest {
+
+  @AfterEach
+  void resetExceptionSink() {
+    ExceptionFactory.setExceptionSink(null);
+  }
+
+  @Nested
+  class HookTests {
+
+    @Test
+    void testCreatedExceptionsAreReported() {
+      final var reported = new ArrayList<Exception>();
+      ExceptionFactory.setExceptionSink(reported::add);
+      final var exceptions =
+          List.of(
+              ExceptionFactory.illegalArgumentOf("key", MUST_NOT_BE_NULL),
+              ExceptionFactory.stacklessIllegalStateOf("key", MUST_BE_AT_MOST, "1"),
+              ExceptionFactory.lazyIllegalArgumentOf("key", MUST_NOT_BE_NULL),
+              ExceptionBuilder.of(RuntimeException.class).setMessage("message").build(),
+              ExceptionFactory.violations()
+                  .add("key", MUST_NOT_BE_NULL)
+                  .build(IllegalArgumentException.class));
+      assertEquals(exceptions.size(), reported.size());
+      for (var i = 0; i < exceptions.size(); i++) {
+        assertSame(exceptions.get(i), reported.get(i));
+      }
+    }
+
+    @Test
+    void testSharedExceptionsAreReportedOnce() {
+      final var reported = new ArrayList<Exception>();
+      ExceptionFactory.setExceptionSink(reported::add);
+      final var key = "testSharedExceptionsAreReportedOnce";
+      final var exception = ExceptionFactory.sharedIllegalArgumentOf(key, MUST_NOT_BE_NULL);
+      assertSame(exception, ExceptionFactory.sharedIllegalArgumentOf(key, MUST_NOT_BE_NULL));
+      assertEquals(List.of(exception), reported);
+    }
+
+    @Test
+    void testNoExceptionSink() {
+      assertDoesNotThrow(() -> ExceptionFactory.illegalArgumentOf("key", MUST_NOT_BE_NULL));
+    }
+  }
+
+  @Nested
+  class AsyncExceptionSinkTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 100})
+    void testAllExceptionsAreDrainedInBatches(final int maxBatchSize) {
+      final var batches = Collections.synchronizedList(new ArrayList<List<Exception>>());
+      final var sink =
+          AsyncExceptionSink.start(
+              1024, maxBatchSize, AsyncExceptionSink.DropPolicy.DROP_NEWEST, batches::add);
+      final var exceptions = new ArrayList<Exception>();
+      for (var i = 0; i < 500; i++) {
+        final var exception = new IllegalStateException(String.valueOf(i));
+        exceptions.add(exception);
+        sink.accept(exception);
+      }
+      sink.close();
+      final var drained = new ArrayList<Exception>();
+      for (final var batch : batches) {
+        assertTrue(batch.size() <= maxBatchSize);
+        drained.addAll(batch);
+      }
+      assertEquals(exceptions, drained);
+      assertEquals(0, sink.getDroppedCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(AsyncExceptionSink.DropPolicy.class)
+    void testDropPolicy(final AsyncExceptionSink.DropPolicy dropPolicy)
+        throws InterruptedException {
+      final var consuming = new CountDownLatch(1);
+      final var release = new CountDownLatch(1);
+      final var drained = Collections.synchronizedList(new ArrayList<Exception>());
+      final var sink =
+          AsyncExceptionSink.start(
+              4,
+              1,
+              dropPolicy,
+              batch -> {
+                consuming.countDown();
+                awaitUninterruptibly(release);
+                drained.addAll(batch);
+              });
+      final var first = new IllegalStateException("first");
+      sink.accept(first);
+      assertTrue(consuming.await(10, TimeUnit.SECONDS));
+      final var exceptions = new ArrayList<Exception>();
+      for (var i = 0; i < 6; i++) {
+        final var exception = new IllegalStateException(String.valueOf(i));
+        exceptions.add(exception);
+        sink.accept(exception);
+      }
+      assertEquals(2, sink.getDroppedCount());
+      release.countDown();
+      sink.close();
+      final var expected = new ArrayList<Exception>();
+      expected.add(first);
+      if (dropPolicy == AsyncExceptionSink.DropPolicy.DROP_NEWEST) {
+        expected.addAll(exceptions.subList(0, 4));
+      } else {
+        expected.addAll(exceptions.subList(2, 6));
+      }
+      assertEquals(expected, drained);
+    }
+
+    @Test
+    void testClosedSinkDrops() {
+      final var sink =
+          AsyncExceptionSink.start(
+              8, 8, AsyncExceptionSink.DropPolicy.DROP_NEWEST, batch -> fail("Unexpected batch"));
+      sink.close();
+      sink.accept(new IllegalStateException());
+      assertEquals(1, sink.getDroppedCount());
+    }
+
+    @Test
+    void testConcurrentClose() throws InterruptedException {
+      for (var attempt = 0; attempt < 20; attempt++) {
+        final var drainedCount = new AtomicLong();
+        final var sink =
+            AsyncExceptionSink.start(
+                1024,
+                16,
+                AsyncExceptionSink.DropPolicy.DROP_NEWEST,
+                batch -> drainedCount.addAndGet(batch.size()));
+        final var acceptedCount = new AtomicLong();
+        final var producers = new ArrayList<Thread>();
+        for (var i = 0; i < 4; i++) {
+          final var producer =
+              new Thread(
+                  () -> {
+                    for (var j = 0; j < 1_000; j++) {
+                      sink.accept(new IllegalStateException());
+                      acceptedCount.incrementAndGet();
+                    }
+                  });
+          producers.add(producer);
+          producer.start();
+        }
+        sink.close();
+        for (final var producer : producers) {
+          producer.join();
+        }
+        assertEquals(acceptedCount.get(), drainedCount.get() + sink.getDroppedCount());
+      }
+    }
+
+    @Test
+    void testCloseDeliversExceptionsEnqueuedBeforeClose() throws InterruptedException {
+      for (var attempt = 0; attempt < 20; attempt++) {
+        final var drained = Collections.synchronizedSet(new HashSet<Exception>());
+        final var sink =
+            AsyncExceptionSink.start(
+                1 << 16, 16, AsyncExceptionSink.DropPolicy.DROP_OLDEST, drained::addAll);
+        final var enqueuedBeforeClose = new ArrayList<Exception>();
+        for (var i = 0; i < 1_000; i++) {
+          final var exception = new IllegalStateException();
+          sink.accept(exception);
+          enqueuedBeforeClose.add(exception);
+        }
+        final var producers = new ArrayList<Thread>();
+        for (var i = 0; i < 4; i++) {
+          final var producer =
+              new Thread(
+                  () -> {
+                    for (var j = 0; j < 1_000; j++) {
+                      sink.accept(new IllegalArgumentException());
+                    }
+                  });
+          producers.add(producer);
+          producer.start();
+        }
+        sink.close();
+        for (final var producer : producers) {
+          producer.join();
+        }
+        assertTrue(drained.containsAll(enqueuedBeforeClose));
+        assertEquals(5_000, drained.size() + sink.getDroppedCount());
+      }
+    }
+
+    @Test
+    void testFailingBatchConsumer() {
+      final var drained = Collections.synchronizedList(new ArrayList<Exception>());
+      final var sink =
+          AsyncExceptionSink.start(
+              8,
+              1,
+              AsyncExceptionSink.DropPolicy.DROP_NEWEST,
+              batch -> {
+                drained.addAll(batch);
+                throw new UnsupportedOperationException();
+              },
+              runnable -> {
+                final var thread = new Thread(runnable);
+                thread.setUncaughtExceptionHandler((t, e) -> {});
+                return thread;
+              });
+      sink.accept(new IllegalStateException("first"));
+      sink.accept(new IllegalStateException("second"));
+      sink.close();
+      assertEquals(2, drained.size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+      final var dropPolicy = AsyncExceptionSink.DropPolicy.DROP_NEWEST;
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> AsyncExceptionSink.start(0, 1, dropPolicy, batch -> {}));
+      assertEquals("`capacity` MUST be positive", exception.getMessage());
+      final var otherException =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> AsyncExceptionSink.start(1, 0, dropPolicy, batch -> {}));
+      assertEquals("`maxBatchSize` MUST be positive", otherException.getMessage());
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+      while (true) {
+        try {
+          latch.await();
+          return;
+        } catch (InterruptedException e) {
+          // Keep waiting.
+        }
+      }
+    }
+  }
+}
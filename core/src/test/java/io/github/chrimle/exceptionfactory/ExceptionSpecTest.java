@@ -0,0 +1,116 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExceptionSpecTest {
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplate(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exceptionSpec = ExceptionSpec.of(IllegalArgumentException.class, oneArgTemplate);
+    final var exception = exceptionSpec.create("key");
+    assertEquals(IllegalArgumentException.class, exception.getClass());
+    assertEquals(oneArgTemplate.format("key"), exception.getMessage());
+    assertNull(exception.getCause());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplate(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exceptionSpec = ExceptionSpec.of(IllegalStateException.class, "key", twoArgTemplate);
+    final var exception = exceptionSpec.create("value");
+    assertEquals(IllegalStateException.class, exception.getClass());
+    assertEquals(twoArgTemplate.format("key", "value"), exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = {"", "100", "%s"})
+  void testValue(final String value) {
+    final var exceptionSpec =
+        ExceptionSpec.of(IllegalArgumentException.class, null, MUST_BE_AT_MOST);
+    assertEquals(MUST_BE_AT_MOST.format(null, value), exceptionSpec.create(value).getMessage());
+  }
+
+  @Test
+  void testCause() {
+    final var cause = new RuntimeException();
+    final var exception = ExceptionSpec.of(Exception.class, MUST_NOT_BE_NULL).create("key", cause);
+    assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  void testStackless() {
+    final var exceptionSpec = ExceptionSpec.of(IllegalArgumentException.class, MUST_NOT_BE_NULL);
+    assertNotEquals(0, exceptionSpec.create("key").getStackTrace().length);
+    final var stacklessExceptionSpec = exceptionSpec.withStackless(true);
+    assertNotSame(exceptionSpec, stacklessExceptionSpec);
+    final var exception = stacklessExceptionSpec.create("key");
+    assertInstanceOf(IllegalArgumentException.class, exception);
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2})
+  void testStackTraceDepth(final int maxDepth) {
+    final var exception =
+        ExceptionSpec.of(IllegalArgumentException.class, MUST_NOT_BE_NULL)
+            .withStackTraceDepth(maxDepth)
+            .create("key");
+    assertEquals(maxDepth, exception.getStackTrace().length);
+    if (maxDepth > 0) {
+      final var topStackTraceElement = exception.getStackTrace()[0];
+      assertEquals(ExceptionSpecTest.class.getName(), topStackTraceElement.getClassName());
+      assertEquals("testStackTraceDepth", topStackTraceElement.getMethodName());
+    }
+  }
+
+  @Test
+  void testNegativeStackTraceDepth() {
+    final var exceptionSpec = ExceptionSpec.of(IllegalArgumentException.class, MUST_NOT_BE_NULL);
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> exceptionSpec.withStackTraceDepth(-1));
+    assertEquals("`maxDepth` MUST NOT be negative", exception.getMessage());
+  }
+
+  @Test
+  void testStackTraceSampler() {
+    final var exceptionSpec = ExceptionSpec.of(IllegalArgumentException.class, MUST_NOT_BE_NULL);
+    final var sampled =
+        exceptionSpec.withStackTraceSampler(StackTraceSampler.oneIn(1)).create("key");
+    assertNotEquals(0, sampled.getStackTrace().length);
+    final var notSampled =
+        exceptionSpec.withStackTraceSampler(exceptionClass -> false).create("key");
+    assertEquals(0, notSampled.getStackTrace().length);
+    assertEquals(IllegalArgumentException.class, notSampled.getClass());
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testNullMessageTemplate() {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                ExceptionSpec.of(
+                    IllegalArgumentException.class, (MessageTemplates.OneArgTemplate) null));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testNullClass() {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> ExceptionSpec.of(null, "key", MUST_BE_AT_MOST));
+    assertEquals("`exceptionClass` is `null`", exception.getMessage());
+  }
+}
@@ -0,0 +1,264 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LocalizedTemplatesTest {
+
+  private static final Locale SWEDISH = Locale.forLanguageTag("sv");
+
+  private static ResourceBundle bundleOf(final Object[][] contents) {
+    return new ListResourceBundle() {
+      @Override
+      protected Object[][] getContents() {
+        return contents;
+      }
+    };
+  }
+
+  private static ResourceBundle loadBundle(final Locale locale) {
+    if (!SWEDISH.equals(locale)) {
+      throw new MissingResourceException("No bundle", "Messages", locale.toString());
+    }
+    return bundleOf(
+        new Object[][] {
+          {"MUST_NOT_BE_NULL", "`%s` F\u00c5R INTE vara `null`"},
+          {"MUST_BE_AT_MOST", "`%s` M\u00c5STE vara h\u00f6gst `%s`"}
+        });
+  }
+
+  @Test
+  void testLocalizedTemplates() {
+    final var localizedTemplates = LocalizedTemplates.of(LocalizedTemplatesTest::loadBundle);
+    assertEquals(
+        "`key` F\u00c5R INTE vara `null`",
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key"));
+    assertEquals(
+        "`key` M\u00c5STE vara h\u00f6gst `10`",
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "key", "10"));
+  }
+
+  @Test
+  void testMissingTemplatesFallBackToDefaults() {
+    final var localizedTemplates = LocalizedTemplates.of(LocalizedTemplatesTest::loadBundle);
+    for (final var messageTemplate : MessageTemplates.OneArgTemplate.values()) {
+      if (messageTemplate != MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL) {
+        assertEquals(
+            messageTemplate.format("key"),
+            localizedTemplates.format(SWEDISH, messageTemplate, "key"));
+      }
+    }
+    assertEquals(
+        MessageTemplates.TwoArgTemplate.MUST_BE_EQUAL_TO.format("key", "value"),
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.TwoArgTemplate.MUST_BE_EQUAL_TO, "key", "value"));
+  }
+
+  @Test
+  void testMissingBundleFallsBackToDefaults() {
+    final var localizedTemplates = LocalizedTemplates.of(LocalizedTemplatesTest::loadBundle);
+    assertEquals(
+        MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL.format("key"),
+        localizedTemplates.format(
+            Locale.ENGLISH, MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key"));
+    assertEquals(
+        MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST.format("key", "10"),
+        localizedTemplates.format(
+            Locale.ENGLISH, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "key", "10"));
+  }
+
+  @Test
+  void testBundleIsLoadedOncePerLocale() {
+    final var loads = new AtomicInteger();
+    final var localizedTemplates =
+        LocalizedTemplates.of(
+            locale -> {
+              loads.incrementAndGet();
+              return loadBundle(locale);
+            });
+    for (var i = 0; i < 3; i++) {
+      localizedTemplates.format(SWEDISH, MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key");
+      localizedTemplates.format(
+          Locale.ENGLISH, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "key", "10");
+    }
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidLocalizedTemplatesFallBackToDefaults() {
+    final var localizedTemplates =
+        LocalizedTemplates.of(
+            locale ->
+                bundleOf(
+                    new Object[][] {
+                      {"MUST_NOT_BE_NULL", "`%s` and `%s`"},
+                      {"MUST_EXIST", "`%d`"},
+                      {"MUST_NOT_BE_EMPTY", 42},
+                      {"MUST_BE_AT_MOST", "`%3$s`"},
+                      {"MUST_BE_EQUAL_TO", "`%s` M\u00c5STE vara `%s`"}
+                    }));
+    assertEquals(
+        MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL.format("key"),
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key"));
+    assertEquals(
+        MessageTemplates.OneArgTemplate.MUST_EXIST.format("key"),
+        localizedTemplates.format(SWEDISH, MessageTemplates.OneArgTemplate.MUST_EXIST, "key"));
+    assertEquals(
+        MessageTemplates.OneArgTemplate.MUST_NOT_BE_EMPTY.format("key"),
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.OneArgTemplate.MUST_NOT_BE_EMPTY, "key"));
+    assertEquals(
+        MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST.format("key", "10"),
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "key", "10"));
+    assertEquals(
+        "`key` M\u00c5STE vara `value`",
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.TwoArgTemplate.MUST_BE_EQUAL_TO, "key", "value"));
+  }
+
+  @Test
+  void testPositionalLocalizedTemplate() {
+    final var localizedTemplates =
+        LocalizedTemplates.of(
+            locale ->
+                bundleOf(
+                    new Object[][] {{"MUST_BE_AT_MOST", "h\u00f6gst `%2$s` f\u00f6r `%1$s`"}}));
+    assertEquals(
+        "h\u00f6gst `10` f\u00f6r `key`",
+        localizedTemplates.format(
+            SWEDISH, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "key", "10"));
+  }
+
+  @Test
+  void testHeldLocalesAreBounded() {
+    final var loads = new AtomicInteger();
+    final var localizedTemplates =
+        LocalizedTemplates.of(
+            locale -> {
+              loads.incrementAndGet();
+              return bundleOf(
+                  new Object[][] {{"MUST_NOT_BE_NULL", "`%s` F\u00c5R INTE vara `null`"}});
+            });
+    for (var i = 0; i <= LocalizedTemplates.MAX_SIZE; i++) {
+      assertEquals(
+          "`key` F\u00c5R INTE vara `null`",
+          localizedTemplates.format(
+              Locale.forLanguageTag("sv-x-" + i),
+              MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL,
+              "key"));
+    }
+    assertEquals(LocalizedTemplates.MAX_SIZE + 1, loads.get());
+    localizedTemplates.format(
+        Locale.forLanguageTag("sv-x-0"), MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key");
+    assertEquals(LocalizedTemplates.MAX_SIZE + 1, loads.get());
+    localizedTemplates.format(
+        Locale.forLanguageTag("sv-x-" + LocalizedTemplates.MAX_SIZE),
+        MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL,
+        "key");
+    assertEquals(LocalizedTemplates.MAX_SIZE + 2, loads.get());
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testNullArguments() {
+    final var nullLoader =
+        assertThrows(IllegalArgumentException.class, () -> LocalizedTemplates.of(null));
+    assertEquals("`bundleLoader` MUST NOT be `null`", nullLoader.getMessage());
+
+    final var localizedTemplates = LocalizedTemplates.of(LocalizedTemplatesTest::loadBundle);
+    final var nullLocale =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                localizedTemplates.format(
+                    null, MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL, "key"));
+    assertEquals("`locale` MUST NOT be `null`", nullLocale.getMessage());
+    final var nullTemplate =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                localizedTemplates.format(
+                    SWEDISH, (MessageTemplates.TwoArgTemplate) null, "key", "value"));
+    assertEquals("`messageTemplate` MUST NOT be `null`", nullTemplate.getMessage());
+  }
+
+  @Nested
+  class ExceptionFactoryTests {
+
+    @AfterEach
+    void resetLocalizedTemplates() {
+      ExceptionFactory.setLocalizedTemplates(null);
+    }
+
+    @Test
+    void testDefaultTemplatesWithoutLocalizedTemplates() {
+      assertEquals(
+          MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL.format("key"),
+          ExceptionFactory.illegalArgumentOf(
+                  SWEDISH, "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL)
+              .getMessage());
+    }
+
+    @Test
+    void testLocalizedExceptions() {
+      ExceptionFactory.setLocalizedTemplates(
+          LocalizedTemplates.of(LocalizedTemplatesTest::loadBundle));
+      assertEquals(
+          "`key` F\u00c5R INTE vara `null`",
+          ExceptionFactory.illegalArgumentOf(
+                  SWEDISH, "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL)
+              .getMessage());
+      assertEquals(
+          "`key` F\u00c5R INTE vara `null`",
+          ExceptionFactory.illegalStateOf(
+                  SWEDISH, "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL)
+              .getMessage());
+      assertEquals(
+          "`key` M\u00c5STE vara h\u00f6gst `10`",
+          ExceptionFactory.illegalArgumentOf(
+                  SWEDISH, "key", MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "10")
+              .getMessage());
+      assertEquals(
+          "`key` M\u00c5STE vara h\u00f6gst `10`",
+          ExceptionFactory.illegalStateOf(
+                  SWEDISH, "key", MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, "10")
+              .getMessage());
+      assertEquals(
+          MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL.format("key"),
+          ExceptionFactory.illegalArgumentOf(
+                  Locale.ENGLISH, "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL)
+              .getMessage());
+    }
+
+    @Test
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    void testNullArguments() {
+      final var nullLocale =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  ExceptionFactory.illegalArgumentOf(
+                      (Locale) null, "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL));
+      assertEquals("`locale` MUST NOT be `null`", nullLocale.getMessage());
+      final var nullTemplate =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  ExceptionFactory.illegalStateOf(
+                      SWEDISH, "key", (MessageTemplates.TwoArgTemplate) null, "value"));
+      assertEquals("`messageTemplate` MUST NOT be `null`", nullTemplate.getMessage());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageBuilder.newMessageBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MessageBuilderTest {
+
+  @Test
+  void testEmpty() {
+    assertEquals("", newMessageBuilder().toString());
+  }
+
+  @Test
+  void testWordsAreSeparatedBySpace() {
+    assertEquals(
+        "`%s` MUST be at most `%s`",
+        newMessageBuilder()
+            .addFormatSpecifier(String.class)
+            .add(RequirementLevel.MUST)
+            .add("be")
+            .add("at most")
+            .addFormatSpecifier(String.class)
+            .toString());
+  }
+
+  @Test
+  void testEmptyWordsAreSeparated() {
+    assertEquals(
+        String.join(" ", "", "a", ""), newMessageBuilder().add("").add("a").add("").toString());
+  }
+
+  @Test
+  void testPrimitives() {
+    assertEquals(
+        "true c 1 2 1.5 2.5 `false` `d` `3` `4` `0.1` `0.2`",
+        newMessageBuilder()
+            .add(true)
+            .add('c')
+            .add(1)
+            .add(2L)
+            .add(1.5f)
+            .add(2.5)
+            .addCodeQuote(false)
+            .addCodeQuote('d')
+            .addCodeQuote(3)
+            .addCodeQuote(4L)
+            .addCodeQuote(0.1f)
+            .addCodeQuote(0.2)
+            .toString());
+  }
+
+  @Test
+  void testPrimitivesMatchBoxedValues() {
+    assertEquals(
+        newMessageBuilder().add((Object) 1.1f).addCodeQuote((Object) Long.MIN_VALUE).toString(),
+        newMessageBuilder().add(1.1f).addCodeQuote(Long.MIN_VALUE).toString());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 64, 1024})
+  void testCapacity(final int capacity) {
+    assertEquals(
+        "`key` MUST", newMessageBuilder(capacity).addCodeQuote("key").add("MUST").toString());
+  }
+
+  @Test
+  void testNegativeCapacity() {
+    final var exception = assertThrows(IllegalArgumentException.class, () -> newMessageBuilder(-1));
+    assertEquals("`capacity` MUST NOT be negative", exception.getMessage());
+  }
+
+  @Test
+  void testNullObject() {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> newMessageBuilder().add((Object) null));
+    assertEquals("`object` MUST NOT be `null`", exception.getMessage());
+  }
+}
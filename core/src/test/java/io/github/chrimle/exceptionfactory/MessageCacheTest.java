@@ -0,0 +1,74 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MessageCacheTest {
+
+  @AfterEach
+  void disable() {
+    MessageCache.disable();
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplate(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var uncachedMessage = oneArgTemplate.format("test");
+    assertNotSame(uncachedMessage, oneArgTemplate.format("test"));
+    MessageCache.enable(16);
+    assertTrue(MessageCache.isEnabled());
+    final var cachedMessage = oneArgTemplate.format("test");
+    assertEquals(uncachedMessage, cachedMessage);
+    assertSame(cachedMessage, oneArgTemplate.format("test"));
+    assertEquals(oneArgTemplate.format(null), oneArgTemplate.format(null));
+    assertSame(oneArgTemplate.format(null), oneArgTemplate.format(null));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplate(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var uncachedMessage = twoArgTemplate.format("test", "value");
+    MessageCache.enable(16);
+    final var cachedMessage = twoArgTemplate.format("test", "value");
+    assertEquals(uncachedMessage, cachedMessage);
+    assertSame(cachedMessage, twoArgTemplate.format("test", "value"));
+    assertNotSame(cachedMessage, twoArgTemplate.format("value", "test"));
+  }
+
+  @Test
+  void testLeastRecentlyUsedEviction() {
+    MessageCache.enable(1);
+    final var template = MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+    final var first = template.format("first", "1");
+    final var second = template.format("second", "2");
+    assertSame(first, template.format("first", "1"));
+    assertSame(second, template.format("second", "2"));
+    // "first" is the least recently used, and is evicted.
+    final var third = template.format("third", "3");
+    assertSame(third, template.format("third", "3"));
+    assertSame(second, template.format("second", "2"));
+    assertNotSame(first, template.format("first", "1"));
+  }
+
+  @Test
+  void testDisable() {
+    MessageCache.enable(16);
+    final var cachedMessage = MessageTemplates.OneArgTemplate.MUST_EXIST.format("test");
+    MessageCache.disable();
+    assertFalse(MessageCache.isEnabled());
+    assertNotSame(cachedMessage, MessageTemplates.OneArgTemplate.MUST_EXIST.format("test"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void testNotPositive(final int maximumSize) {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> MessageCache.enable(maximumSize));
+    assertEquals("`maximumSize` MUST be positive", exception.getMessage());
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate;
+import io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate;
+import java.util.HashSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MessageTemplatesTest {
+
+  @ParameterizedTest
+  @EnumSource(OneArgTemplate.class)
+  void testOneArgTemplateOfId(final OneArgTemplate oneArgTemplate) {
+    assertSame(oneArgTemplate, MessageTemplates.ofId(oneArgTemplate.getId()));
+  }
+
+  @ParameterizedTest
+  @EnumSource(TwoArgTemplate.class)
+  void testTwoArgTemplateOfId(final TwoArgTemplate twoArgTemplate) {
+    assertSame(twoArgTemplate, MessageTemplates.ofId(twoArgTemplate.getId()));
+  }
+
+  @Test
+  void testIdsAreUnique() {
+    final var ids = new HashSet<Integer>();
+    Stream.concat(Stream.of(OneArgTemplate.values()), Stream.of(TwoArgTemplate.values()))
+        .forEach(messageTemplate -> assertTrue(ids.add(messageTemplate.getId())));
+  }
+
+  @Test
+  void testIdsAreStable() {
+    assertEquals(1, MessageTemplates.ID_VERSION);
+    assertEquals(1, OneArgTemplate.MUST_BE_FALSE.getId());
+    assertEquals(10, OneArgTemplate.MUST_NOT_BE_NULL.getId());
+    assertEquals(12, OneArgTemplate.MUST_NOT_EXIST.getId());
+    assertEquals(101, TwoArgTemplate.MUST_BE_AT_LEAST.getId());
+    assertEquals(110, TwoArgTemplate.MUST_MATCH_REGEX.getId());
+    assertEquals(113, TwoArgTemplate.MUST_NOT_CONTAIN.getId());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 13, 100, 114, Integer.MAX_VALUE})
+  void testOfUnknownId(final int id) {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplates.ofId(id));
+    assertEquals("`id` MUST be the id of a message template", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(TwoArgTemplate.class)
+  void testPrimitiveFormat(final TwoArgTemplate twoArgTemplate) {
+    for (final var value : new int[] {Integer.MIN_VALUE, -1, 0, 42, Integer.MAX_VALUE}) {
+      assertEquals(
+          twoArgTemplate.format("key", String.valueOf(value)), twoArgTemplate.format("key", value));
+    }
+    for (final var value : new long[] {Long.MIN_VALUE, -1L, 0L, 42L, Long.MAX_VALUE}) {
+      assertEquals(
+          twoArgTemplate.format("key", String.valueOf(value)), twoArgTemplate.format("key", value));
+    }
+    for (final var value :
+        new double[] {Double.NaN, Double.NEGATIVE_INFINITY, -0.0, 0.1, 1e21, Double.MAX_VALUE}) {
+      assertEquals(
+          twoArgTemplate.format("key", String.valueOf(value)), twoArgTemplate.format("key", value));
+    }
+    assertEquals(twoArgTemplate.format(null, "42"), twoArgTemplate.format(null, 42));
+  }
+}
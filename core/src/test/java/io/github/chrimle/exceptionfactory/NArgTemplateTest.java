@@ -0,0 +1,108 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NArgTemplateTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "no specifiers",
+        "%s",
+        "`%s` MUST be between `%s` and `%s`",
+        "%s%s%s%s%s",
+        "100%% `%s`",
+        "%%s %s",
+        "%2$s before %1$s",
+        "%1$s, %1$s and %s",
+        "%3$s only"
+      })
+  void testFormatIsIdenticalToStringFormat(final String template) {
+    final var nArgTemplate = NArgTemplate.of(template);
+    final var args = new String[nArgTemplate.getArgCount()];
+    for (var i = 0; i < args.length; i++) {
+      args[i] = i == 1 ? null : "arg" + i;
+    }
+    assertEquals(template, nArgTemplate.getTemplate());
+    assertEquals(String.format(template, (Object[]) args), nArgTemplate.format(args));
+  }
+
+  @Test
+  void testArgCount() {
+    assertEquals(0, NArgTemplate.of("%%").getArgCount());
+    assertEquals(3, NArgTemplate.of("%s %s %s").getArgCount());
+    assertEquals(4, NArgTemplate.of("%4$s %s").getArgCount());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"%", "%d", "%0$s", "%1$d", "%1s", "%1$", "%-s", "%1025$s", "trailing %"})
+  void testUnsupportedFormatSpecifiers(final String template) {
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> NArgTemplate.of(template));
+    assertEquals(
+        "`template` MUST only contain `%s`, `%N$s` and `%%` format specifiers",
+        exception.getMessage());
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testNullTemplate() {
+    final var exception = assertThrows(IllegalArgumentException.class, () -> NArgTemplate.of(null));
+    assertEquals("`template` MUST NOT be `null`", exception.getMessage());
+  }
+
+  @Test
+  void testWrongNumberOfArgs() {
+    final var nArgTemplate = NArgTemplate.of("%s %s");
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> nArgTemplate.format("one"));
+    assertEquals("`args` MUST be of length `2`", exception.getMessage());
+  }
+
+  @Test
+  void testMustBeBetween() {
+    assertEquals(
+        "`example` MUST be between `1` and `42`",
+        MessageTemplates.MUST_BE_BETWEEN.format("example", "1", "42"));
+  }
+
+  @Test
+  void testExceptionFactory() {
+    final var illegalArgumentException =
+        ExceptionFactory.illegalArgumentOf(MessageTemplates.MUST_BE_BETWEEN, "x", "a", "b");
+    assertEquals(IllegalArgumentException.class, illegalArgumentException.getClass());
+    assertEquals("`x` MUST be between `a` and `b`", illegalArgumentException.getMessage());
+    final var illegalStateException =
+        ExceptionFactory.illegalStateOf(MessageTemplates.MUST_BE_BETWEEN, "x", "a", "b");
+    assertEquals(IllegalStateException.class, illegalStateException.getClass());
+    assertEquals("`x` MUST be between `a` and `b`", illegalStateException.getMessage());
+  }
+
+  @Test
+  void testExceptionBuilder() {
+    final var cause = new RuntimeException();
+    final var exception =
+        ExceptionBuilder.of(Exception.class)
+            .setMessage(MessageTemplates.MUST_BE_BETWEEN, "x", "a", "b")
+            .setCause(cause)
+            .build();
+    assertEquals("`x` MUST be between `a` and `b`", exception.getMessage());
+    assertSame(cause, exception.getCause());
+  }
+
+  @Test
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  void testExceptionBuilderNullTemplate() {
+    final var exceptionBuilder = ExceptionBuilder.of(Exception.class);
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> exceptionBuilder.setMessage((NArgTemplate) null, "x"));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+  }
+}
@@ -0,0 +1,148 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.*;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PreconditionsTest {
+
+  private static void assertFails(final String expectedMessage, final Executable executable) {
+    final var exception = assertThrows(IllegalArgumentException.class, executable);
+    assertEquals(expectedMessage, exception.getMessage());
+  }
+
+  @Nested
+  class ObjectTests {
+
+    @Test
+    void testRequireNonNull() {
+      final var object = new Object();
+      assertSame(object, Preconditions.requireNonNull(object, "object"));
+      assertFails(
+          MUST_NOT_BE_NULL.format("object"), () -> Preconditions.requireNonNull(null, "object"));
+    }
+
+    @Test
+    void testRequireNonEmptyCharSequence() {
+      assertEquals("value", Preconditions.requireNonEmpty("value", "name"));
+      assertFails(
+          MUST_NOT_BE_EMPTY.format("name"), () -> Preconditions.requireNonEmpty("", "name"));
+      assertFails(
+          MUST_NOT_BE_NULL.format("name"),
+          () -> Preconditions.requireNonEmpty((String) null, "name"));
+    }
+
+    @Test
+    void testRequireNonEmptyCollection() {
+      final var list = List.of(1);
+      assertSame(list, Preconditions.requireNonEmpty(list, "list"));
+      assertFails(
+          MUST_NOT_BE_EMPTY.format("list"), () -> Preconditions.requireNonEmpty(List.of(), "list"));
+      assertFails(
+          MUST_NOT_BE_NULL.format("list"),
+          () -> Preconditions.requireNonEmpty((List<?>) null, "list"));
+    }
+
+    @Test
+    void testRequireTrueAndFalse() {
+      assertDoesNotThrow(() -> Preconditions.requireTrue(true, "flag"));
+      assertDoesNotThrow(() -> Preconditions.requireFalse(false, "flag"));
+      assertFails(MUST_BE_TRUE.format("flag"), () -> Preconditions.requireTrue(false, "flag"));
+      assertFails(MUST_BE_FALSE.format("flag"), () -> Preconditions.requireFalse(true, "flag"));
+    }
+  }
+
+  @Nested
+  class SignTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 42, Integer.MAX_VALUE})
+    void testPositive(final int number) {
+      assertEquals(number, Preconditions.requirePositive(number, "n"));
+      assertEquals((long) number, Preconditions.requirePositive((long) number, "n"));
+      assertEquals((double) number, Preconditions.requirePositive((double) number, "n"));
+      assertEquals(number, Preconditions.requireNonNegative(number, "n"));
+      assertFails(MUST_BE_NEGATIVE.format("n"), () -> Preconditions.requireNegative(number, "n"));
+      assertFails(
+          MUST_NOT_BE_POSITIVE.format("n"),
+          () -> Preconditions.requireNonPositive((long) number, "n"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, -42, Integer.MIN_VALUE})
+    void testNegative(final int number) {
+      assertEquals(number, Preconditions.requireNegative(number, "n"));
+      assertEquals((long) number, Preconditions.requireNegative((long) number, "n"));
+      assertEquals((double) number, Preconditions.requireNegative((double) number, "n"));
+      assertEquals(number, Preconditions.requireNonPositive(number, "n"));
+      assertFails(MUST_BE_POSITIVE.format("n"), () -> Preconditions.requirePositive(number, "n"));
+      assertFails(
+          MUST_NOT_BE_NEGATIVE.format("n"),
+          () -> Preconditions.requireNonNegative((double) number, "n"));
+    }
+
+    @Test
+    void testZero() {
+      assertEquals(0, Preconditions.requireNonNegative(0, "n"));
+      assertEquals(0L, Preconditions.requireNonPositive(0L, "n"));
+      assertFails(MUST_BE_POSITIVE.format("n"), () -> Preconditions.requirePositive(0L, "n"));
+      assertFails(MUST_BE_NEGATIVE.format("n"), () -> Preconditions.requireNegative(0.0, "n"));
+    }
+
+    @Test
+    void testNaN() {
+      assertFails(
+          MUST_BE_POSITIVE.format("n"), () -> Preconditions.requirePositive(Double.NaN, "n"));
+      assertFails(
+          MUST_NOT_BE_NEGATIVE.format("n"),
+          () -> Preconditions.requireNonNegative(Double.NaN, "n"));
+    }
+  }
+
+  @Nested
+  class ComparisonTests {
+
+    @Test
+    void testInt() {
+      assertEquals(100, Preconditions.requireAtMost(100, 100, "n"));
+      assertEquals(100, Preconditions.requireAtLeast(100, 100, "n"));
+      assertEquals(99, Preconditions.requireLessThan(99, 100, "n"));
+      assertEquals(101, Preconditions.requireGreaterThan(101, 100, "n"));
+      assertFails(
+          MUST_BE_AT_MOST.format("n", "100"), () -> Preconditions.requireAtMost(101, 100, "n"));
+      assertFails(
+          MUST_BE_AT_LEAST.format("n", "100"), () -> Preconditions.requireAtLeast(99, 100, "n"));
+      assertFails(
+          MUST_BE_LESS_THAN.format("n", "100"),
+          () -> Preconditions.requireLessThan(100, 100, "n"));
+      assertFails(
+          MUST_BE_GREATER_THAN.format("n", "100"),
+          () -> Preconditions.requireGreaterThan(100, 100, "n"));
+    }
+
+    @Test
+    void testLong() {
+      assertEquals(Long.MAX_VALUE, Preconditions.requireAtLeast(Long.MAX_VALUE, 0L, "n"));
+      assertFails(
+          MUST_BE_AT_MOST.format("n", String.valueOf(Long.MIN_VALUE)),
+          () -> Preconditions.requireAtMost(0L, Long.MIN_VALUE, "n"));
+    }
+
+    @Test
+    void testDouble() {
+      assertEquals(0.5, Preconditions.requireLessThan(0.5, 1.0, "n"));
+      assertFails(
+          MUST_BE_AT_MOST.format("n", "1.5"), () -> Preconditions.requireAtMost(2.0, 1.5, "n"));
+      assertFails(
+          MUST_BE_AT_LEAST.format("n", "0.0"),
+          () -> Preconditions.requireAtLeast(Double.NaN, 0.0, "n"));
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StackTraceSamplerTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 10})
+  void testOneIn(final int n) {
+    final var stackTraceSampler = StackTraceSampler.oneIn(n);
+    final var samples = 100_000;
+    var sampled = 0;
+    for (var i = 0; i < samples; i++) {
+      if (stackTraceSampler.sample(IllegalArgumentException.class)) {
+        sampled++;
+      }
+    }
+    // Well beyond the variance of sampling at random, for any `n` above.
+    final var expected = samples / n;
+    assertTrue(sampled >= expected * 0.9 && sampled <= expected * 1.1, "sampled: " + sampled);
+  }
+
+  @Test
+  void testOneInDoesNotSampleFirstOfEachThread() throws InterruptedException {
+    final var stackTraceSampler = StackTraceSampler.oneIn(1_000_000);
+    final var sampled = new AtomicInteger();
+    final var threads = new ArrayList<Thread>();
+    for (var i = 0; i < 16; i++) {
+      final var thread =
+          new Thread(
+              () -> {
+                if (stackTraceSampler.sample(IllegalArgumentException.class)) {
+                  sampled.incrementAndGet();
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final var thread : threads) {
+      thread.join();
+    }
+    assertTrue(sampled.get() < threads.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5})
+  void testPerSecond(final int k) {
+    final var stackTraceSampler = StackTraceSampler.perSecond(k);
+    assertTrue(stackTraceSampler.sample(IllegalArgumentException.class));
+    assertTrue(stackTraceSampler.sample(IllegalStateException.class));
+    var sampled = 1;
+    for (var i = 0; i < 10 * k; i++) {
+      if (stackTraceSampler.sample(IllegalArgumentException.class)) {
+        sampled++;
+      }
+    }
+    // At most one new second may have started during the loop.
+    assertTrue(sampled >= k && sampled <= 2 * k, "sampled: " + sampled);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void testNotPositive(final int n) {
+    final var oneInException =
+        assertThrows(IllegalArgumentException.class, () -> StackTraceSampler.oneIn(n));
+    assertEquals("`n` MUST be positive", oneInException.getMessage());
+    final var perSecondException =
+        assertThrows(IllegalArgumentException.class, () -> StackTraceSampler.perSecond(n));
+    assertEquals("`k` MUST be positive", perSecondException.getMessage());
+  }
+
+  @Test
+  void testExceptionBuilder() {
+    final var sampled =
+        ExceptionBuilder.of(IllegalArgumentException.class)
+            .setStackTraceSampler(exceptionClass -> true)
+            .build();
+    assertNotEquals(0, sampled.getStackTrace().length);
+    final var notSampled =
+        ExceptionBuilder.of(IllegalArgumentException.class)
+            .setStackTraceSampler(exceptionClass -> false)
+            .build();
+    assertEquals(0, notSampled.getStackTrace().length);
+    assertEquals(IllegalArgumentException.class, notSampled.getClass());
+  }
+
+  @Test
+  void testExceptionFactory() {
+    try {
+      ExceptionFactory.setStackTraceSampler(exceptionClass -> false);
+      final var notSampled =
+          ExceptionFactory.illegalArgumentOf("test", MessageTemplates.OneArgTemplate.MUST_EXIST);
+      assertEquals(0, notSampled.getStackTrace().length);
+      assertEquals(IllegalArgumentException.class, notSampled.getClass());
+    } finally {
+      ExceptionFactory.setStackTraceSampler(null);
+    }
+    final var sampled =
+        ExceptionFactory.illegalArgumentOf("test", MessageTemplates.OneArgTemplate.MUST_EXIST);
+    assertNotEquals(0, sampled.getStackTrace().length);
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.chrimle.exceptionfactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class TemplatedExceptionTest {
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.OneArgTemplate.class)
+  void testOneArgTemplate(final MessageTemplates.OneArgTemplate oneArgTemplate) {
+    final var exception = ExceptionFactory.lazyIllegalArgumentOf("key", oneArgTemplate);
+    final var templatedException = assertInstanceOf(TemplatedException.class, exception);
+    assertSame(oneArgTemplate, templatedException.getMessageTemplate());
+    assertEquals(List.of("key"), templatedException.getMessageArgs());
+    assertEquals(1, oneArgTemplate.getArgCount());
+    assertEquals(oneArgTemplate.format("key"), exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @EnumSource(MessageTemplates.TwoArgTemplate.class)
+  void testTwoArgTemplate(final MessageTemplates.TwoArgTemplate twoArgTemplate) {
+    final var exception = ExceptionFactory.lazyIllegalStateOf("key", twoArgTemplate, "value");
+    final var templatedException = assertInstanceOf(TemplatedException.class, exception);
+    assertSame(twoArgTemplate, templatedException.getMessageTemplate());
+    assertEquals(List.of("key", "value"), templatedException.getMessageArgs());
+    assertEquals(2, twoArgTemplate.getArgCount());
+    assertEquals(twoArgTemplate.format("key", "value"), exception.getMessage());
+  }
+
+  @Test
+  void testNullArgs() {
+    final var exception =
+        ExceptionFactory.lazyIllegalArgumentOf(
+            null, MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST, null);
+    final var templatedException = assertInstanceOf(TemplatedException.class, exception);
+    assertEquals(Arrays.asList(null, null), templatedException.getMessageArgs());
+  }
+
+  @Test
+  void testMessageArgsAreUnmodifiable() {
+    final var templatedException =
+        (TemplatedException)
+            ExceptionFactory.lazyIllegalStateOf(
+                "key", MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL);
+    assertThrows(
+        UnsupportedOperationException.class, () -> templatedException.getMessageArgs().add("x"));
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.chrimle.exceptionfactory;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NEGATIVE;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.OneArgTemplate.MUST_NOT_BE_NULL;
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ViolationsTest {
+
+  @Test
+  void testEmpty() {
+    final var violations = ExceptionFactory.violations();
+    assertTrue(violations.isEmpty());
+    assertEquals(0, violations.size());
+    assertDoesNotThrow(() -> violations.throwIfAny(IllegalArgumentException.class));
+    final var exception =
+        assertThrows(
+            IllegalStateException.class, () -> violations.build(IllegalArgumentException.class));
+    assertEquals("`violations` MUST NOT be empty", exception.getMessage());
+  }
+
+  @Test
+  void testSingleViolation() {
+    final var violations = ExceptionFactory.violations().add("username", MUST_NOT_BE_NULL);
+    assertFalse(violations.isEmpty());
+    assertEquals(1, violations.size());
+    final var exception = violations.build(IllegalArgumentException.class);
+    assertEquals(IllegalArgumentException.class, exception.getClass());
+    assertEquals(MUST_NOT_BE_NULL.format("username"), exception.getMessage());
+    assertEquals(0, exception.getSuppressed().length);
+  }
+
+  @Test
+  void testManyViolations() {
+    final var violations =
+        ExceptionFactory.violations()
+            .add("username", MUST_NOT_BE_NULL)
+            .add("age", MUST_NOT_BE_NEGATIVE)
+            .add("limit", MUST_BE_AT_MOST, "100");
+    assertEquals(3, violations.size());
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> violations.throwIfAny(IllegalArgumentException.class));
+    assertEquals(
+        "`username` MUST NOT be `null`; `age` MUST NOT be negative; `limit` MUST be at most `100`",
+        exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 5, 100})
+  void testSuppressed(final int size) {
+    final var violations = ExceptionFactory.violations();
+    for (var i = 0; i < size; i++) {
+      violations.add("key" + i, MUST_BE_AT_MOST, String.valueOf(i));
+    }
+    assertEquals(size, violations.size());
+    final var exception = violations.build(IllegalStateException.class, true);
+    assertEquals(size, exception.getSuppressed().length);
+    for (var i = 0; i < size; i++) {
+      final var suppressed = exception.getSuppressed()[i];
+      assertInstanceOf(IllegalStateException.class, suppressed);
+      assertEquals(MUST_BE_AT_MOST.format("key" + i, String.valueOf(i)), suppressed.getMessage());
+      assertEquals(0, suppressed.getStackTrace().length);
+    }
+  }
+
+  @Test
+  void testNullMessageTemplate() {
+    final var violations = ExceptionFactory.violations();
+    @SuppressWarnings({"DataFlowIssue", "NullAway"})
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> violations.add("key", (MessageTemplates.OneArgTemplate) null));
+    assertEquals("`messageTemplate` MUST NOT be `null`", exception.getMessage());
+    assertTrue(violations.isEmpty());
+  }
+}
@@ -0,0 +1,352 @@
+package io.github.chrimle.exceptionfactory.processor;
+
+import io.github.chrimle.exceptionfactory.GenerateFactory;
+import io.github.chrimle.exceptionfactory.MessageTemplates;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Annotation Processor</em>, which generates a <em>reflection-free</em> factory-class for each
+ * {@link Exception}-class annotated with {@link GenerateFactory}.
+ *
+ * <p>The annotated class is validated at <em>compile-time</em>, rather than on first use, as
+ * {@code ExceptionBuilder.of(Class)} does. Each generated factory-method invokes the {@code
+ * (String, Throwable)} constructor <em>directly</em>.
+ *
+ * @since 0.7.0
+ * @author Chrimle
+ */
+public final class ExceptionFactoryProcessor extends AbstractProcessor {
+
+  /** Simple name of {@link MessageTemplates}, which is imported by generated factory-classes. */
+  private static final String MESSAGE_TEMPLATES = MessageTemplates.class.getSimpleName();
+
+  /** Default suffix of the simple name of generated factory-classes. */
+  private static final String FACTORY_SUFFIX = "Factory";
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(GenerateFactory.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (final var element : roundEnv.getElementsAnnotatedWith(GenerateFactory.class)) {
+      if (validate(element)) {
+        generate((TypeElement) element);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Validates the annotated {@code element}, reporting an <em>error</em> for each violation.
+   *
+   * @param element annotated with {@link GenerateFactory}.
+   * @return {@code true} if the {@code element} is valid, otherwise {@code false}.
+   */
+  private boolean validate(final Element element) {
+    if (element.getKind() != ElementKind.CLASS) {
+      return error(element, "`@GenerateFactory` MUST annotate a class");
+    }
+    final var typeElement = (TypeElement) element;
+    final var exceptionType =
+        processingEnv.getElementUtils().getTypeElement(Exception.class.getCanonicalName());
+    if (!processingEnv.getTypeUtils().isSubtype(typeElement.asType(), exceptionType.asType())) {
+      return error(element, "`@GenerateFactory` MUST annotate a sub-class of `Exception`");
+    }
+    if (typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+      return error(element, "`@GenerateFactory` MUST NOT annotate an abstract class");
+    }
+    if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL
+        && (typeElement.getNestingKind() != NestingKind.MEMBER
+            || !typeElement.getModifiers().contains(Modifier.STATIC))) {
+      return error(element, "`@GenerateFactory` MUST annotate a top-level or static nested class");
+    }
+    if (findConstructor(typeElement) == null) {
+      return error(
+          element,
+          "`@GenerateFactory` MUST annotate a class with a non-private (`String, Throwable`)"
+              + " constructor");
+    }
+    if (!SourceVersion.isName(factoryName(typeElement))) {
+      return error(element, "`@GenerateFactory.name` MUST be a valid Java identifier");
+    }
+    return true;
+  }
+
+  /**
+   * Reports an <em>error</em> on the {@code element}.
+   *
+   * @param element to report the error on.
+   * @param message of the error.
+   * @return {@code false}.
+   */
+  private boolean error(final Element element, final String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    return false;
+  }
+
+  /**
+   * Finds the non-{@code private} {@code (String, Throwable)} constructor of the {@code
+   * typeElement}. Parameter types are compared by their <em>erasure</em>, such that <em>type-use
+   * annotations</em>, e.g. {@code @Nullable}, do not affect the comparison.
+   *
+   * @param typeElement to find the constructor of.
+   * @return the constructor, or {@code null} if there is none.
+   */
+  private @Nullable ExecutableElement findConstructor(final TypeElement typeElement) {
+    for (final var constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+      final var parameters = constructor.getParameters();
+      if (!constructor.getModifiers().contains(Modifier.PRIVATE)
+          && parameters.size() == 2
+          && isType(parameters.get(0).asType(), String.class)
+          && isType(parameters.get(1).asType(), Throwable.class)) {
+        return constructor;
+      }
+    }
+    return null;
+  }
+
+  private boolean isType(final TypeMirror typeMirror, final Class<?> type) {
+    final var types = processingEnv.getTypeUtils();
+    final var typeElement = processingEnv.getElementUtils().getTypeElement(type.getCanonicalName());
+    return typeElement != null
+        && types.isSameType(types.erasure(typeMirror), types.erasure(typeElement.asType()));
+  }
+
+  /**
+   * Returns the simple name of the factory-class of the {@code typeElement}.
+   *
+   * @param typeElement to get the factory-class name of.
+   * @return the simple name of the factory-class.
+   */
+  private static String factoryName(final TypeElement typeElement) {
+    final var name = typeElement.getAnnotation(GenerateFactory.class).name();
+    if (!name.isEmpty()) {
+      return name;
+    }
+    final var simpleNames = new StringBuilder(typeElement.getSimpleName());
+    for (var enclosing = typeElement.getEnclosingElement();
+        enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      simpleNames.insert(0, enclosing.getSimpleName());
+    }
+    return simpleNames.append(FACTORY_SUFFIX).toString();
+  }
+
+  /**
+   * Returns whether the {@code typeElement}, and all of its enclosing classes, are {@code public}.
+   *
+   * @param typeElement to check.
+   * @return {@code true} if the {@code typeElement} is accessible from any package.
+   */
+  private static boolean isPublic(final TypeElement typeElement) {
+    for (Element element = typeElement;
+        element instanceof TypeElement;
+        element = element.getEnclosingElement()) {
+      if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Generates the factory-class of the {@code typeElement}.
+   *
+   * @param typeElement to generate the factory-class of.
+   */
+  private void generate(final TypeElement typeElement) {
+    final var packageElement = processingEnv.getElementUtils().getPackageOf(typeElement);
+    final var factoryName = factoryName(typeElement);
+    final var qualifiedName =
+        packageElement.isUnnamed()
+            ? factoryName
+            : packageElement.getQualifiedName() + "." + factoryName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, typeElement).openWriter()) {
+      writer.write(source(packageElement, typeElement, factoryName));
+    } catch (IOException e) {
+      error(typeElement, "Failed to generate `" + qualifiedName + "`: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the source code of the factory-class of the {@code typeElement}.
+   *
+   * @param packageElement of the {@code typeElement}.
+   * @param typeElement to generate the factory-class of.
+   * @param factoryName of the factory-class.
+   * @return the source code.
+   */
+  private static String source(
+      final PackageElement packageElement,
+      final TypeElement typeElement,
+      final String factoryName) {
+    final var type = typeElement.getQualifiedName().toString();
+    final var modifier = isPublic(typeElement) ? "public " : "";
+    final var source = new StringBuilder(4096);
+    if (!packageElement.isUnnamed()) {
+      source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+    }
+    source
+        .append("import ")
+        .append(MessageTemplates.class.getCanonicalName())
+        .append(";\n\n")
+        .append("/**\n")
+        .append(" * <em>Reflection-free</em> factory of {@link ")
+        .append(type)
+        .append("}.\n")
+        .append(" *\n")
+        .append(" * <p>Generated by {@code ")
+        .append(ExceptionFactoryProcessor.class.getName())
+        .append("}.\n")
+        .append(" */\n")
+        .append(modifier)
+        .append("final class ")
+        .append(factoryName)
+        .append(" {\n\n")
+        .append("  private ")
+        .append(factoryName)
+        .append("() {}\n");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link " + type + "} with the {@code message}.",
+        "final String message",
+        null,
+        "message",
+        "(Throwable) null");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link " + type + "} with the {@code message} and {@code cause}.",
+        "final String message, final Throwable cause",
+        null,
+        "message",
+        "cause");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link " + type + "} with a {@code message} of the {@code messageTemplate}.",
+        "final String key, final " + MESSAGE_TEMPLATES + ".OneArgTemplate messageTemplate",
+        "messageTemplate",
+        "messageTemplate.format(key)",
+        "(Throwable) null");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link "
+            + type
+            + "} with a {@code message} of the {@code messageTemplate}, and the {@code cause}.",
+        "final String key, final "
+            + MESSAGE_TEMPLATES
+            + ".OneArgTemplate messageTemplate, final Throwable cause",
+        "messageTemplate",
+        "messageTemplate.format(key)",
+        "cause");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link " + type + "} with a {@code message} of the {@code messageTemplate}.",
+        "final String key, final "
+            + MESSAGE_TEMPLATES
+            + ".TwoArgTemplate messageTemplate, final String value",
+        "messageTemplate",
+        "messageTemplate.format(key, value)",
+        "(Throwable) null");
+    method(
+        source,
+        modifier,
+        type,
+        "Creates a {@link "
+            + type
+            + "} with a {@code message} of the {@code messageTemplate}, and the {@code cause}.",
+        "final String key, final "
+            + MESSAGE_TEMPLATES
+            + ".TwoArgTemplate messageTemplate, final String value, final Throwable cause",
+        "messageTemplate",
+        "messageTemplate.format(key, value)",
+        "cause");
+    return source.append("}\n").toString();
+  }
+
+  /**
+   * Appends a factory-method to the {@code source}.
+   *
+   * @param source to append to.
+   * @param modifier of the factory-method.
+   * @param type of the created exception.
+   * @param summary of the factory-method.
+   * @param parameters of the factory-method.
+   * @param messageTemplate parameter to validate, or {@code null} if there is none.
+   * @param message expression.
+   * @param cause expression.
+   */
+  private static void method(
+      final StringBuilder source,
+      final String modifier,
+      final String type,
+      final String summary,
+      final String parameters,
+      final @Nullable String messageTemplate,
+      final String message,
+      final String cause) {
+    source
+        .append("\n  /** ")
+        .append(summary)
+        .append(" */\n  ")
+        .append(modifier)
+        .append("static ")
+        .append(type)
+        .append(" of(")
+        .append(parameters)
+        .append(") {\n");
+    if (messageTemplate != null) {
+      source
+          .append("    if (")
+          .append(messageTemplate)
+          .append(" == null) {\n")
+          .append("      throw new IllegalArgumentException(\"`")
+          .append(messageTemplate)
+          .append("` MUST NOT be `null`\");\n")
+          .append("    }\n");
+    }
+    source
+        .append("    return new ")
+        .append(type)
+        .append("(")
+        .append(message)
+        .append(", ")
+        .append(cause)
+        .append(");\n")
+        .append("  }\n");
+  }
+}
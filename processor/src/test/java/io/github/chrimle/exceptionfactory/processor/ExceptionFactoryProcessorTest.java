@@ -0,0 +1,197 @@
+package io.github.chrimle.exceptionfactory.processor;
+
+import static io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate.MUST_BE_AT_MOST;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.exceptionfactory.MessageTemplates.TwoArgTemplate;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+class ExceptionFactoryProcessorTest {
+
+  /** Result of compiling a single source file with the {@link ExceptionFactoryProcessor}. */
+  private record Compilation(boolean success, String errors, Path outputDirectory) {}
+
+  private static Compilation compile(final String className, final String source)
+      throws IOException {
+    final var sourceDirectory = Files.createTempDirectory("sources");
+    final var outputDirectory = Files.createTempDirectory("classes");
+    final var sourceFile = sourceDirectory.resolve(className + ".java");
+    Files.writeString(sourceFile, source);
+    final var compiler = ToolProvider.getSystemJavaCompiler();
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    try (final var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      final var task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-d",
+                  outputDirectory.toString(),
+                  "-s",
+                  outputDirectory.toString()),
+              null,
+              fileManager.getJavaFileObjects(sourceFile));
+      task.setProcessors(List.of(new ExceptionFactoryProcessor()));
+      final boolean success = task.call();
+      final var errors =
+          diagnostics.getDiagnostics().stream()
+              .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+              .collect(Collectors.joining("\n"));
+      return new Compilation(success, errors, outputDirectory);
+    }
+  }
+
+  @Test
+  void testGeneratesFactory() throws Exception {
+    final var compilation =
+        compile(
+            "CustomException",
+            """
+            package test;
+
+            @io.github.chrimle.exceptionfactory.GenerateFactory
+            public class CustomException extends Exception {
+              public CustomException(String message, Throwable cause) {
+                super(message, cause);
+              }
+            }
+            """);
+    assertTrue(compilation.success(), compilation.errors());
+    try (final var classLoader =
+        new URLClassLoader(
+            new URL[] {compilation.outputDirectory().toUri().toURL()},
+            getClass().getClassLoader())) {
+      final var factory = classLoader.loadClass("test.CustomExceptionFactory");
+      final var cause = new RuntimeException();
+      final var method =
+          factory.getMethod(
+              "of", String.class, TwoArgTemplate.class, String.class, Throwable.class);
+      final var exception = (Exception) method.invoke(null, "limit", MUST_BE_AT_MOST, "100", cause);
+      assertEquals("test.CustomException", exception.getClass().getName());
+      assertEquals(MUST_BE_AT_MOST.format("limit", "100"), exception.getMessage());
+      assertSame(cause, exception.getCause());
+    }
+  }
+
+  @Test
+  void testGeneratesNamedFactoryOfNestedClass() throws Exception {
+    final var compilation =
+        compile(
+            "Outer",
+            """
+            package test;
+
+            public class Outer {
+              @io.github.chrimle.exceptionfactory.GenerateFactory
+              static class NestedException extends RuntimeException {
+                NestedException(String message, Throwable cause) {
+                  super(message, cause);
+                }
+              }
+
+              @io.github.chrimle.exceptionfactory.GenerateFactory(name = "Errors")
+              public static class NamedException extends RuntimeException {
+                public NamedException(String message, Throwable cause) {
+                  super(message, cause);
+                }
+              }
+            }
+            """);
+    assertTrue(compilation.success(), compilation.errors());
+    final var outputDirectory = compilation.outputDirectory();
+    assertTrue(Files.exists(outputDirectory.resolve("test/OuterNestedExceptionFactory.java")));
+    assertTrue(Files.exists(outputDirectory.resolve("test/Errors.java")));
+  }
+
+  @Test
+  void testAcceptsNullableConstructorParameters() throws IOException {
+    final var compilation =
+        compile(
+            "NullableException",
+            """
+            package test;
+
+            import org.jspecify.annotations.Nullable;
+
+            @io.github.chrimle.exceptionfactory.GenerateFactory
+            public class NullableException extends Exception {
+              public NullableException(
+                  final @Nullable String message, final @Nullable Throwable cause) {
+                super(message, cause);
+              }
+            }
+            """);
+    assertTrue(compilation.success(), compilation.errors());
+    assertTrue(
+        Files.exists(compilation.outputDirectory().resolve("test/NullableExceptionFactory.java")));
+  }
+
+  @Test
+  void testRejectsClassWithoutConstructor() throws IOException {
+    final var compilation =
+        compile(
+            "InvalidException",
+            """
+            package test;
+
+            @io.github.chrimle.exceptionfactory.GenerateFactory
+            public class InvalidException extends Exception {
+              public InvalidException(String message) {
+                super(message);
+              }
+            }
+            """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("non-private (`String, Throwable`) constructor"));
+  }
+
+  @Test
+  void testRejectsAbstractClass() throws IOException {
+    final var compilation =
+        compile(
+            "AbstractException",
+            """
+            package test;
+
+            @io.github.chrimle.exceptionfactory.GenerateFactory
+            public abstract class AbstractException extends Exception {
+              public AbstractException(String message, Throwable cause) {
+                super(message, cause);
+              }
+            }
+            """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("MUST NOT annotate an abstract class"));
+  }
+
+  @Test
+  void testRejectsNonException() throws IOException {
+    final var compilation =
+        compile(
+            "NotAnException",
+            """
+            package test;
+
+            @io.github.chrimle.exceptionfactory.GenerateFactory
+            public class NotAnException {
+              public NotAnException(String message, Throwable cause) {}
+            }
+            """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("MUST annotate a sub-class of `Exception`"));
+  }
+}